@@ -0,0 +1,81 @@
+package com.codeit.cafe.codec;
+
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderItemResponse;
+import com.codeit.cafe.dto.OrderResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderResponse 인코딩/디코딩: JSON vs CBOR vs Smile vs 전용 코덱
+ * 형식별 크기는 setUp에서 출력한다. (-prof gc 로 할당량 비교)
+ * ./gradlew jmh -PjmhIncludes=OrderResponseCodecBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class OrderResponseCodecBenchmark {
+
+    @Param({"json", "cbor", "smile", "codec"})
+    private String format;
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private ObjectMapper objectMapper;
+    private OrderResponse response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "json" -> mapper(new JsonFactory());
+            case "cbor" -> mapper(new CBORFactory());
+            case "smile" -> mapper(new SmileFactory());
+            default -> null;
+        };
+
+        List<OrderItemResponse> orderItems = new ArrayList<>(itemCount);
+        int totalPrice = 0;
+        for (int i = 0; i < itemCount; i++) {
+            int price = 4000 + i * 100;
+            int quantity = i % 3 + 1;
+            orderItems.add(new OrderItemResponse((long) i + 1, "메뉴 " + i, price, quantity, price * quantity));
+            totalPrice += price * quantity;
+        }
+        response = new OrderResponse(123_456L, "김춘식", OrderStatus.PREPARING, orderItems, totalPrice,
+                LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000));
+        encoded = encode();
+        System.out.printf("%n[payload] format=%s items=%d bytes=%d%n", format, itemCount, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper != null ? objectMapper.writeValueAsBytes(response) : OrderResponseCodec.encode(response);
+    }
+
+    @Benchmark
+    public OrderResponse decode() throws IOException {
+        return objectMapper != null
+                ? objectMapper.readValue(encoded, OrderResponse.class)
+                : OrderResponseCodec.decode(encoded);
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.codeit.cafe.domain;
+
+import com.codeit.cafe.dto.OrderResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 도메인 경로 벤치마크 (DB 없이 순수 객체 생성/계산 비용)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    private int itemCount;
+
+    private Menu[] menus;
+    private List<OrderLine> orderLines;
+    private Order builtOrder;
+
+    @Setup
+    public void setUp() {
+        menus = new Menu[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            menus[i] = Menu.builder()
+                    .name("메뉴" + i)
+                    .price(3000 + i)
+                    .available(true)
+                    .build();
+        }
+        orderLines = new ArrayList<>(itemCount);
+        for (Menu menu : menus) {
+            orderLines.add(OrderLine.of(menu, 2));
+        }
+        builtOrder = addOrderItem();
+    }
+
+    /**
+     * 주문 항목을 하나씩 추가 (총 금액 누적)
+     */
+    @Benchmark
+    public Order addOrderItem() {
+        Order order = Order.builder()
+                .customerName("벤치마크")
+                .build();
+        for (Menu menu : menus) {
+            order.addOrderItem(menu, 2);
+        }
+        return order;
+    }
+
+    /**
+     * 주문 항목 일괄 추가 (총 금액 한 번 반영)
+     */
+    @Benchmark
+    public Order addOrderItems() {
+        Order order = Order.builder()
+                .customerName("벤치마크")
+                .build();
+        order.addOrderItems(orderLines);
+        return order;
+    }
+
+    @Benchmark
+    public OrderResponse responseFrom() {
+        return OrderResponse.from(builtOrder);
+    }
+}
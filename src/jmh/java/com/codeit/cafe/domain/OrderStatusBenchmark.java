@@ -0,0 +1,34 @@
+package com.codeit.cafe.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 전환 검사 벤치마크
+ * gc 프로파일러의 gc.alloc.rate.norm 값이 0 B/op 이어야 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class OrderStatusBenchmark {
+
+    private OrderStatus from;
+    private OrderStatus to;
+
+    @Setup
+    public void setUp() {
+        from = OrderStatus.CONFIRMED;
+        to = OrderStatus.PREPARING;
+    }
+
+    @Benchmark
+    public boolean canTransitionTo() {
+        return from.canTransitionTo(to);
+    }
+
+    @Benchmark
+    public boolean canTransitionToRejected() {
+        return to.canTransitionTo(from);
+    }
+}
@@ -0,0 +1,151 @@
+package com.codeit.cafe.loadtest;
+
+import com.codeit.cafe.CafeOrderSystemApplication;
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.repository.MenuRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 부하 테스트
+ * 같은 JVM에서 애플리케이션을 모드별로 띄우고, 동시 클라이언트가 createOrder -> getOrder 를 반복한다.
+ * 가상 스레드 모드에서는 JFR jdk.VirtualThreadPinned 이벤트로 캐리어 스레드 고정 횟수도 센다.
+ *
+ * 실행: ./gradlew loadTest -PloadTestClients=5000 -PloadTestRequestsPerClient=10
+ */
+public class OrderLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.parseInt(args[0]);
+        int requestsPerClient = Integer.parseInt(args[1]);
+        Path resultFile = Path.of(args[2]);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            results.add(run(virtualThreads, clients, requestsPerClient));
+        }
+
+        Files.createDirectories(resultFile.getParent());
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), results);
+        results.forEach(result -> System.out.println(result));
+    }
+
+    private static Map<String, Object> run(boolean virtualThreads, int clients, int requestsPerClient)
+            throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CafeOrderSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-" + mode,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        if (virtualThreads) {
+            builder.profiles("virtual");
+        }
+
+        AtomicLong pinnedEvents = new AtomicLong();
+        try (ConfigurableApplicationContext context = builder.run();
+             RecordingStream pinning = new RecordingStream()) {
+            pinning.enable("jdk.VirtualThreadPinned").withStackTrace();
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            pinning.startAsync();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Menu menu = context.getBean(MenuRepository.class)
+                    .save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+            String createBody = """
+                    {"customerName":"부하테스트","orderItems":[{"menuId":%d,"quantity":2}]}
+                    """.formatted(menu.getId());
+
+            ConcurrentLinkedQueue<Long> createLatencies = new ConcurrentLinkedQueue<>();
+            ConcurrentLinkedQueue<Long> getLatencies = new ConcurrentLinkedQueue<>();
+            AtomicLong failures = new AtomicLong();
+
+            long started = System.nanoTime();
+            try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .executor(clientThreads)
+                        .connectTimeout(Duration.ofSeconds(30))
+                        .build();
+                URI ordersUri = URI.create("http://localhost:" + port + "/api/orders");
+
+                CountDownLatch start = new CountDownLatch(1);
+                for (int i = 0; i < clients; i++) {
+                    clientThreads.submit(() -> {
+                        start.await();
+                        for (int r = 0; r < requestsPerClient; r++) {
+                            try {
+                                long t0 = System.nanoTime();
+                                HttpResponse<String> created = httpClient.send(HttpRequest.newBuilder(ordersUri)
+                                                .header("Content-Type", "application/json")
+                                                .POST(HttpRequest.BodyPublishers.ofString(createBody))
+                                                .build(),
+                                        HttpResponse.BodyHandlers.ofString());
+                                long t1 = System.nanoTime();
+                                if (created.statusCode() != 201) {
+                                    failures.incrementAndGet();
+                                    continue;
+                                }
+                                createLatencies.add(t1 - t0);
+
+                                long orderId = OBJECT_MAPPER.readTree(created.body()).get("id").asLong();
+                                HttpResponse<String> fetched = httpClient.send(
+                                        HttpRequest.newBuilder(ordersUri.resolve("/api/orders/" + orderId)).GET().build(),
+                                        HttpResponse.BodyHandlers.ofString());
+                                if (fetched.statusCode() != 200) {
+                                    failures.incrementAndGet();
+                                    continue;
+                                }
+                                getLatencies.add(System.nanoTime() - t1);
+                            } catch (Exception e) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    });
+                }
+                start.countDown();
+            }
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("mode", mode);
+            result.put("clients", clients);
+            result.put("requestsPerClient", requestsPerClient);
+            result.put("elapsedSeconds", elapsedSeconds);
+            result.put("throughputPerSecond", (createLatencies.size() + getLatencies.size()) / elapsedSeconds);
+            result.put("createOrderP99Millis", percentileMillis(createLatencies, 0.99));
+            result.put("getOrderP99Millis", percentileMillis(getLatencies, 0.99));
+            result.put("failures", failures.get());
+            result.put("pinnedEvents", pinnedEvents.get());
+            return result;
+        }
+    }
+
+    private static double percentileMillis(Collection<Long> latencies, double percentile) {
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
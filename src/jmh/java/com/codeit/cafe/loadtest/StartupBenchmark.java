@@ -0,0 +1,126 @@
+package com.codeit.cafe.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크: 프로세스 시작부터 첫 createOrder 성공(201)까지 걸린 시간
+ * 풀어 놓은 bootJar를 별도 JVM으로 띄우고, 설정별(기본, lazy, AOT, CDS, AOT + CDS)로 여러 번 측정한다.
+ *
+ * 실행: ./gradlew startupBenchmark -PstartupRuns=5
+ */
+public class StartupBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final String CREATE_BODY = """
+            {"customerName":"기동측정","orderItems":[{"menuId":1,"quantity":1}]}
+            """;
+
+    public static void main(String[] args) throws Exception {
+        Path applicationJar = Path.of(args[0]);
+        Path cdsArchive = Path.of(args[1]);
+        Path seedSql = Path.of(args[2]);
+        int runs = Integer.parseInt(args[3]);
+        Path resultFile = Path.of(args[4]);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of());
+        variants.put("lazy", List.of("-Dspring.profiles.active=lazy"));
+        variants.put("aot", List.of("-Dspring.aot.enabled=true"));
+        variants.put("cds", List.of("-XX:SharedArchiveFile=" + cdsArchive));
+        variants.put("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + cdsArchive));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = timeToFirstOrder(applicationJar, seedSql, variant.getValue());
+            }
+            Arrays.sort(millis);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("variant", variant.getKey());
+            result.put("runs", runs);
+            result.put("minMillis", millis[0]);
+            result.put("medianMillis", millis[runs / 2]);
+            result.put("maxMillis", millis[runs - 1]);
+            results.add(result);
+            System.out.println(result);
+        }
+
+        Files.createDirectories(resultFile.getParent());
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), results);
+    }
+
+    private static long timeToFirstOrder(Path applicationJar, Path seedSql, List<String> jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(applicationJar.toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.sql.init.data-locations=file:" + seedSql);
+        command.add("--spring.jpa.show-sql=false");
+        command.add("--logging.level.root=WARN");
+        command.add("--logging.level.org.hibernate.SQL=WARN");
+        command.add("--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CREATE_BODY))
+                .build();
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            while (System.nanoTime() - startedAt < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 종료되었습니다. exitCode=" + process.exitValue());
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 201) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    }
+                } catch (ConnectException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("첫 주문이 " + STARTUP_TIMEOUT + " 안에 성공하지 않았습니다.");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
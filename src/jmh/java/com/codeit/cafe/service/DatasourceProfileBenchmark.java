@@ -0,0 +1,88 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.CafeOrderSystemApplication;
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.repository.MenuRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 설정(application.yml) vs prod 프로필
+ * 두 경우 모두 같은 파일 H2 URL을 써서 저장소 차이를 빼고 프로필 설정(SQL 로그, 풀, JDBC 옵션)만 비교한다.
+ * 기본 설정은 SQL, 바인딩 파라미터 로그를 그대로 둔 채로 측정한다. (로그 출력 비용이 비교 대상)
+ * ./gradlew jmh -PjmhIncludes=DatasourceProfileBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DatasourceProfileBenchmark {
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private Path dataDirectory;
+    private OrderService orderService;
+    private OrderCreateRequest request;
+    private long orderId;
+
+    @Setup
+    public void setUp() throws IOException {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CafeOrderSystemApplication.class)
+                .web(WebApplicationType.NONE);
+        dataDirectory = Files.createTempDirectory("cafe-benchmark");
+        builder.properties("spring.datasource.url=jdbc:h2:file:" + dataDirectory.resolve("cafe"));
+        if ("prod".equals(profile)) {
+            builder.profiles("prod");
+        }
+        context = builder.run();
+        orderService = context.getBean(OrderService.class);
+
+        MenuRepository menuRepository = context.getBean(MenuRepository.class);
+        Menu americano = menuRepository.save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+        Menu latte = menuRepository.save(Menu.builder().name("라떼").price(4500).available(true).build());
+
+        request = OrderCreateRequest.builder()
+                .customerName("벤치마크")
+                .orderItems(List.of(
+                        OrderItemRequest.builder().menuId(americano.getId()).quantity(2).build(),
+                        OrderItemRequest.builder().menuId(latte.getId()).quantity(1).build()))
+                .build();
+        orderId = orderService.createOrder(request).getId();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.createOrder(request);
+    }
+
+    @Benchmark
+    public OrderResponse getOrder() {
+        return orderService.getOrder(orderId);
+    }
+
+    @Benchmark
+    public OrderResponse createAndConfirmOrder() {
+        OrderResponse created = orderService.createOrder(request);
+        return orderService.updateOrderStatus(created.getId(), OrderStatus.CONFIRMED);
+    }
+}
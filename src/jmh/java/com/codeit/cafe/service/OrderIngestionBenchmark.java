@@ -0,0 +1,69 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.CafeOrderSystemApplication;
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.repository.MenuRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 처리량 비교: 주문별 트랜잭션(createOrder) vs 그룹 커밋 접수(OrderIngestionService)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(32)
+public class OrderIngestionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderIngestionService orderIngestionService;
+    private OrderCreateRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CafeOrderSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:ingestion-benchmark",
+                        "spring.datasource.hikari.maximum-pool-size=32",
+                        "cafe.order.ingestion.enabled=true",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        orderIngestionService = context.getBean(OrderIngestionService.class);
+
+        Menu menu = context.getBean(MenuRepository.class)
+                .save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+        request = OrderCreateRequest.builder()
+                .customerName("벤치마크")
+                .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(2).build()))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrderPerTransaction() {
+        return orderService.createOrder(request);
+    }
+
+    @Benchmark
+    public OrderResponse submitGroupCommit() {
+        return orderIngestionService.submit(request).join();
+    }
+}
@@ -0,0 +1,112 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.CafeOrderSystemApplication;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderPageResponse;
+import com.codeit.cafe.dto.OrderSummaryResponse;
+import com.codeit.cafe.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 목록 조회 벤치마크 (100만 건 이상에서 키셋 vs 오프셋 페이지네이션)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OrderQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    private int orderCount;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private EntityManager entityManager;
+
+    private int deepOffset;
+    private LocalDateTime deepOrderedAt;
+    private Long deepId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CafeOrderSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:query-benchmark",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        entityManager = context.getBean(EntityManager.class);
+
+        // 상태 5종이 고르게 섞인 주문 생성 (고객 1만 명)
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO orders (id, customer_name, status, total_price, ordered_at, version)
+                SELECT X,
+                       CONCAT('고객', MOD(X, 10000)),
+                       CASE MOD(X, 5) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'CONFIRMED' WHEN 2 THEN 'PREPARING'
+                                      WHEN 3 THEN 'COMPLETED' ELSE 'CANCELLED' END,
+                       4000,
+                       DATEADD('SECOND', X, TIMESTAMP '2026-01-01 00:00:00'),
+                       0
+                FROM SYSTEM_RANGE(1, ?)
+                """, orderCount);
+        jdbcTemplate.execute("ANALYZE");
+
+        // PENDING 목록의 75% 지점을 깊은 페이지로 사용
+        deepOffset = orderCount / 5 * 3 / 4;
+        Map<String, Object> cursor = jdbcTemplate.queryForMap(
+                "SELECT ordered_at, id FROM orders WHERE status = 'PENDING' ORDER BY ordered_at, id " +
+                        "OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY", deepOffset - 1);
+        deepOrderedAt = ((Timestamp) cursor.get("ORDERED_AT")).toLocalDateTime();
+        deepId = ((Number) cursor.get("ID")).longValue();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderPageResponse keysetFirstPage() {
+        return orderService.getOrdersByStatus(OrderStatus.PENDING, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public OrderPageResponse keysetDeepPage() {
+        return orderService.getOrdersByStatus(OrderStatus.PENDING, deepOrderedAt, deepId, PAGE_SIZE);
+    }
+
+    /**
+     * 비교용: 같은 위치를 OFFSET으로 조회
+     */
+    @Benchmark
+    public List<OrderSummaryResponse> offsetDeepPage() {
+        return entityManager.createQuery(OrderRepository.ORDER_SUMMARY + "WHERE o.status = :status " +
+                        OrderRepository.KEYSET_ORDER, OrderSummaryResponse.class)
+                .setParameter("status", OrderStatus.PENDING)
+                .setFirstResult(deepOffset)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    @Benchmark
+    public OrderPageResponse customerFirstPage() {
+        return orderService.getOrdersByCustomer("고객42", null, null, PAGE_SIZE);
+    }
+}
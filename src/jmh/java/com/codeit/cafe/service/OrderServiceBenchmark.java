@@ -0,0 +1,91 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.CafeOrderSystemApplication;
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService 벤치마크 (Spring + JPA + 인메모리 H2)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderRepository orderRepository;
+    private OrderCreateRequest request;
+    private long orderId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CafeOrderSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        orderRepository = context.getBean(OrderRepository.class);
+
+        MenuRepository menuRepository = context.getBean(MenuRepository.class);
+        Menu americano = menuRepository.save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+        Menu latte = menuRepository.save(Menu.builder().name("라떼").price(4500).available(true).build());
+
+        request = OrderCreateRequest.builder()
+                .customerName("벤치마크")
+                .orderItems(List.of(
+                        OrderItemRequest.builder().menuId(americano.getId()).quantity(2).build(),
+                        OrderItemRequest.builder().menuId(latte.getId()).quantity(1).build()))
+                .build();
+        orderId = orderService.createOrder(request).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.createOrder(request);
+    }
+
+    @Benchmark
+    public OrderResponse getOrder() {
+        return orderService.getOrder(orderId);
+    }
+
+    /**
+     * 비교용: 엔티티 fetch join 후 응답 변환 (프로젝션 도입 전 getOrder 경로)
+     */
+    @Benchmark
+    public OrderResponse getOrderViaEntity() {
+        return OrderResponse.from(orderRepository.findByIdWithItems(orderId));
+    }
+
+    /**
+     * 상태 변경은 되돌릴 수 없으므로 주문 생성 + 확인을 함께 측정 (createOrder 결과와 비교)
+     */
+    @Benchmark
+    public OrderResponse createAndConfirmOrder() {
+        OrderResponse created = orderService.createOrder(request);
+        return orderService.updateOrderStatus(created.getId(), OrderStatus.CONFIRMED);
+    }
+}
@@ -0,0 +1,2 @@
+-- 기동 벤치마크용 메뉴 (첫 메뉴 id = 1)
+insert into menus (id, name, price, available) values (next value for menus_seq, '아메리카노', 4000, true);
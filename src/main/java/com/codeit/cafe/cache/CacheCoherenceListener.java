@@ -0,0 +1,88 @@
+package com.codeit.cafe.cache;
+
+import com.codeit.cafe.domain.CacheRegion;
+import com.codeit.cafe.event.MenuChangedEvent;
+import com.codeit.cafe.event.MenuStockChangedEvent;
+import com.codeit.cafe.event.OrderEventStream;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.OrderRepository;
+import com.codeit.cafe.repository.OrderStatusView;
+import com.codeit.cafe.service.KitchenScheduler;
+import com.codeit.cafe.service.MenuCatalog;
+import com.codeit.cafe.service.OrderResponseCache;
+import com.codeit.cafe.service.SalesRollup;
+import com.codeit.cafe.service.StockReservationEngine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 로컬 캐시(MenuCatalog, StockReservationEngine, OrderResponseCache)와 주문 상태로 만든 메모리 상태
+ * (KitchenScheduler, SalesRollup, OrderEventStream)를 노드 간에 맞춘다.
+ * 이 노드의 변경은 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 버스에 쓰고, 다른 노드에서 온 무효화는 로컬 상태에 반영한다.
+ * 주문 생성은 발행하지 않으므로 다른 노드의 주문 이벤트 스트림에는 확인(CONFIRMED) 이후의 변경만 나간다.
+ * IdempotencyCache 는 노드마다 따로이며, 다른 노드로 들어온 같은 키의 재시도는 orders.idempotency_key 유니크 인덱스가 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheCoherenceListener {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MenuCatalog menuCatalog;
+    private final StockReservationEngine stockReservationEngine;
+    private final OrderResponseCache orderResponseCache;
+    private final KitchenScheduler kitchenScheduler;
+    private final SalesRollup salesRollup;
+    private final OrderEventStream orderEventStream;
+    private final OrderRepository orderRepository;
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheRegion.MENU, menuId -> menuCatalog.reload());
+        cacheInvalidationBus.subscribe(CacheRegion.MENU_STOCK, stockReservationEngine::resetCounter);
+        cacheInvalidationBus.subscribe(CacheRegion.ORDER, orderResponseCache::invalidate);
+        cacheInvalidationBus.subscribe(CacheRegion.ORDER, kitchenScheduler::refresh);
+        cacheInvalidationBus.subscribe(CacheRegion.ORDER, salesRollup::refresh);
+        cacheInvalidationBus.subscribe(CacheRegion.ORDER, this::forwardOrderEvent);
+    }
+
+    /**
+     * 다른 노드에서 바뀐 주문을 이 노드의 주문 이벤트 스트림 구독자에게 보낸다. (현재 상태를 다시 읽는다)
+     */
+    private void forwardOrderEvent(long orderId) {
+        List<OrderStatusView> statuses = orderRepository.findStatusesByIdIn(List.of(orderId));
+        if (!statuses.isEmpty()) {
+            orderEventStream.onOrderStatusChanged(OrderStatusChangedEvent.refreshed(orderId, statuses.get(0).getStatus()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        cacheInvalidationBus.publish(CacheRegion.MENU, event.getMenuId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMenuStockChanged(MenuStockChangedEvent event) {
+        cacheInvalidationBus.publish(CacheRegion.MENU_STOCK, event.getMenuId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        // 새 주문은 아직 어느 노드에도 캐시되어 있지 않다.
+        if (event.getPreviousStatus() != null) {
+            cacheInvalidationBus.publish(CacheRegion.ORDER, event.getOrderId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderStatusesChanged(OrderStatusesChangedEvent event) {
+        cacheInvalidationBus.publishAll(CacheRegion.ORDER, event.getChanges().stream()
+                .map(OrderStatusChangedEvent::getOrderId)
+                .toList());
+    }
+}
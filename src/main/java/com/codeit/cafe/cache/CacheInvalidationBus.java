@@ -0,0 +1,30 @@
+package com.codeit.cafe.cache;
+
+import com.codeit.cafe.domain.CacheRegion;
+
+import java.util.Collection;
+import java.util.function.LongConsumer;
+
+/**
+ * 노드 간 로컬 캐시 무효화 버스
+ * 한 노드의 변경을 다른 노드에 알리고, 다른 노드에서 온 무효화를 구독자에게 전달한다.
+ * 자기 노드에서 발행한 무효화는 전달하지 않는다. (로컬 캐시는 이벤트 리스너가 이미 갱신했다)
+ * 기본 구현은 DatabaseCacheInvalidationBus이며, cafe.cache.bus.type 을 바꾸고 다른 구현을 빈으로 등록할 수 있다.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 변경 발행 (변경한 트랜잭션 안에서 호출, 변경과 함께 커밋되거나 롤백된다)
+     */
+    void publish(CacheRegion region, long entityId);
+
+    /**
+     * 변경 여러 건 발행 (변경한 트랜잭션 안에서 호출)
+     */
+    void publishAll(CacheRegion region, Collection<Long> entityIds);
+
+    /**
+     * 다른 노드에서 온 무효화를 받을 핸들러 등록
+     */
+    void subscribe(CacheRegion region, LongConsumer handler);
+}
@@ -0,0 +1,222 @@
+package com.codeit.cafe.cache;
+
+import com.codeit.cafe.domain.CacheRegion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * 변경 로그 테이블(cache_invalidations) 기반 무효화 버스
+ * 발행하면 변경한 트랜잭션 안에서 한 행을 쓰고(outbox), 각 노드는 poll-interval-ms 마다 마지막으로 읽은 id 이후의 행을 읽어 구독자에게 전달한다.
+ * 무효화 행은 변경과 함께 커밋되므로, 커밋 직후 노드가 죽어도 무효화가 사라지지 않고 롤백되면 함께 사라진다.
+ * 폴링은 Hibernate를 거치지 않는 JDBC 조회이다.
+ * IDENTITY 번호는 커밋 순서와 다를 수 있으므로, 읽다가 건너뛴 번호는 빈 번호로 기억해 두고 매 폴링마다 다시 조회한다.
+ * 늦게 커밋된 행도 retention-seconds 안에만 커밋되면 전달되며, 그보다 오래된 빈 번호는
+ * 롤백되었거나 이미 정리된 것으로 보고 잊는다. (커서는 항상 앞으로 가고, 같은 행은 한 번만 전달)
+ * retention-seconds 가 지난 행은 주기적으로 지운다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cafe.cache.bus.type", havingValue = "database", matchIfMissing = true)
+public class DatabaseCacheInvalidationBus implements CacheInvalidationBus {
+
+    // 다시 조회할 빈 번호 최대 개수 (넘으면 가장 오래된 것부터 잊는다)
+    static final int MAX_GAPS = 10_000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidations (region, entity_id, node_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT id, region, entity_id, node_id FROM cache_invalidations WHERE id > ? ORDER BY id FETCH FIRST ? ROWS ONLY";
+    private static final String SELECT_BY_IDS_SQL =
+            "SELECT id, region, entity_id, node_id FROM cache_invalidations WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+    private final int batchSize;
+    private final long gapLifetimeNanos;
+    private final long retentionSeconds;
+
+    private final Map<CacheRegion, List<LongConsumer>> handlers = new ConcurrentHashMap<>();
+
+    // 이 id까지 읽었다. (시작 전에는 -1, 폴링은 스케줄러 스레드 하나에서만 돈다)
+    private volatile long cursor = -1;
+    // 커서 앞에서 아직 보지 못한 id -> 빈 번호를 알게 된 시각
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+    public DatabaseCacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                        @Value("${cafe.cache.bus.node-id:}") String nodeId,
+                                        @Value("${cafe.cache.bus.batch-size:500}") int batchSize,
+                                        @Value("${cafe.cache.bus.retention-seconds:3600}") long retentionSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.batchSize = batchSize;
+        // 행이 남아 있는 동안만 다시 조회한다.
+        this.gapLifetimeNanos = TimeUnit.SECONDS.toNanos(retentionSeconds);
+        this.retentionSeconds = retentionSeconds;
+    }
+
+    /**
+     * 시작 시점 이후의 변경만 받는다. (로컬 캐시는 시작할 때 DB에서 새로 채운다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidations", Long.class);
+        cursor = maxId != null ? maxId : 0;
+        log.info("캐시 무효화 버스 시작: nodeId={}, cursor={}", nodeId, cursor);
+    }
+
+    /**
+     * JdbcTemplate은 진행 중인 트랜잭션의 커넥션을 쓰므로 변경과 같은 트랜잭션에서 쓴다.
+     */
+    @Override
+    public void publish(CacheRegion region, long entityId) {
+        jdbcTemplate.update(INSERT_SQL, region.name(), entityId, nodeId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public void publishAll(CacheRegion region, Collection<Long> entityIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = entityIds.stream()
+                .map(entityId -> new Object[]{region.name(), entityId, nodeId, now})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Override
+    public void subscribe(CacheRegion region, LongConsumer handler) {
+        handlers.computeIfAbsent(region, key -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    @Scheduled(fixedDelayString = "${cafe.cache.bus.poll-interval-ms:500}")
+    public void poll() {
+        poll(System.nanoTime());
+    }
+
+    void poll(long now) {
+        if (cursor < 0) {
+            return;
+        }
+        recheckGaps(now);
+        // 밀린 행이 batch-size 보다 많으면 이번 폴링에서 이어서 읽는다.
+        while (readForward(now) == batchSize) {
+            log.debug("캐시 무효화 로그 이어 읽기: cursor={}", cursor);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cafe.cache.bus.purge-interval-ms:60000}")
+    public void purge() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusSeconds(retentionSeconds));
+        int deleted = jdbcTemplate.update("DELETE FROM cache_invalidations WHERE created_at < ?", before);
+        if (deleted > 0) {
+            log.debug("캐시 무효화 로그 정리: {}건", deleted);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    long getCursor() {
+        return cursor;
+    }
+
+    int getGapCount() {
+        return gaps.size();
+    }
+
+    private int readForward(long now) {
+        long from = cursor;
+        long[] last = {from};
+        int[] read = {0};
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            long id = rs.getLong("id");
+            // 번호가 크게 건너뛰면(시퀀스 캐시 유실 등) 바로 앞 MAX_GAPS 개만 기억한다.
+            long firstMissing = Math.max(last[0] + 1, id - MAX_GAPS);
+            if (firstMissing > last[0] + 1) {
+                log.warn("캐시 무효화 번호가 크게 건너뛰어 앞부분은 다시 조회하지 않습니다. from={}, to={}", last[0] + 1, firstMissing - 1);
+            }
+            for (long missing = firstMissing; missing < id; missing++) {
+                addGap(missing, now);
+            }
+            last[0] = id;
+            read[0]++;
+            dispatch(rs.getString("region"), rs.getLong("entity_id"), rs.getString("node_id"));
+        }, from, batchSize);
+        cursor = last[0];
+        return read[0];
+    }
+
+    /**
+     * 빈 번호 중 그 사이 커밋된 행을 전달하고, 수명이 지난 빈 번호는 잊는다.
+     */
+    private void recheckGaps(long now) {
+        if (gaps.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(gaps.keySet());
+        for (int start = 0; start < ids.size(); start += batchSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + batchSize, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(SELECT_BY_IDS_SQL.formatted(placeholders), rs -> {
+                if (gaps.remove(rs.getLong("id")) != null) {
+                    dispatch(rs.getString("region"), rs.getLong("entity_id"), rs.getString("node_id"));
+                }
+            }, chunk.toArray());
+        }
+        int expired = 0;
+        Iterator<Long> noticedAt = gaps.values().iterator();
+        while (noticedAt.hasNext()) {
+            if (now - noticedAt.next() >= gapLifetimeNanos) {
+                noticedAt.remove();
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            log.debug("캐시 무효화 빈 번호 만료: {}건", expired);
+        }
+    }
+
+    private void addGap(long id, long now) {
+        if (gaps.size() >= MAX_GAPS) {
+            Map.Entry<Long, Long> oldest = gaps.pollFirstEntry();
+            log.warn("캐시 무효화 빈 번호가 너무 많아 가장 오래된 번호를 잊습니다. id={}", oldest.getKey());
+        }
+        gaps.put(id, now);
+    }
+
+    private void dispatch(String region, long entityId, String sourceNodeId) {
+        // 자기 노드에서 발행한 무효화는 이벤트 리스너가 이미 반영했다.
+        if (nodeId.equals(sourceNodeId)) {
+            return;
+        }
+        CacheRegion cacheRegion = CacheRegion.valueOf(region);
+        for (LongConsumer handler : handlers.getOrDefault(cacheRegion, List.of())) {
+            try {
+                handler.accept(entityId);
+            } catch (RuntimeException e) {
+                // 핸들러 하나가 실패해도 나머지 무효화는 계속 전달한다.
+                log.warn("캐시 무효화 처리 실패: region={}, id={}", cacheRegion, entityId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.codeit.cafe.codec;
+
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderItemResponse;
+import com.codeit.cafe.dto.OrderResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * OrderResponse 바이너리 코덱 (application/vnd.cafe.order+binary)
+ *
+ * 형식: [버전 1바이트] [null 여부 비트 1바이트] 필드...
+ * - 정수는 zigzag varint, 문자열은 길이(varint) + UTF-8
+ * - status는 ordinal 1바이트 (OrderStatus 상수는 뒤에만 추가해야 한다)
+ * - orderedAt은 UTC 기준 epoch 초(varint) + 나노초(varint)
+ * 인코딩은 바이트 배열 하나에 직접 쓰므로 중간 객체를 만들지 않는다.
+ */
+public final class OrderResponseCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private static final int ID = 1;
+    private static final int CUSTOMER_NAME = 1 << 1;
+    private static final int STATUS = 1 << 2;
+    private static final int ORDER_ITEMS = 1 << 3;
+    private static final int TOTAL_PRICE = 1 << 4;
+    private static final int ORDERED_AT = 1 << 5;
+
+    private static final int MENU_ID = 1;
+    private static final int MENU_NAME = 1 << 1;
+    private static final int MENU_PRICE = 1 << 2;
+    private static final int QUANTITY = 1 << 3;
+    private static final int SUBTOTAL = 1 << 4;
+
+    private OrderResponseCodec() {
+    }
+
+    public static byte[] encode(OrderResponse response) {
+        Writer writer = new Writer(64 + sizeHint(response));
+        writer.writeByte(VERSION);
+        writeOrder(writer, response);
+        return writer.toByteArray();
+    }
+
+    public static OrderResponse decode(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        reader.readVersion();
+        return readOrder(reader);
+    }
+
+    private static int sizeHint(OrderResponse response) {
+        return response.getOrderItems() != null ? response.getOrderItems().size() * 24 : 0;
+    }
+
+    private static void writeOrder(Writer writer, OrderResponse response) {
+        int presence = (response.getId() != null ? ID : 0)
+                | (response.getCustomerName() != null ? CUSTOMER_NAME : 0)
+                | (response.getStatus() != null ? STATUS : 0)
+                | (response.getOrderItems() != null ? ORDER_ITEMS : 0)
+                | (response.getTotalPrice() != null ? TOTAL_PRICE : 0)
+                | (response.getOrderedAt() != null ? ORDERED_AT : 0);
+        writer.writeByte(presence);
+
+        if ((presence & ID) != 0) {
+            writer.writeVarLong(response.getId());
+        }
+        if ((presence & CUSTOMER_NAME) != 0) {
+            writer.writeString(response.getCustomerName());
+        }
+        if ((presence & STATUS) != 0) {
+            writer.writeByte(response.getStatus().ordinal());
+        }
+        if ((presence & ORDER_ITEMS) != 0) {
+            List<OrderItemResponse> orderItems = response.getOrderItems();
+            writer.writeVarInt(orderItems.size());
+            for (OrderItemResponse orderItem : orderItems) {
+                writeOrderItem(writer, orderItem);
+            }
+        }
+        if ((presence & TOTAL_PRICE) != 0) {
+            writer.writeVarInt(response.getTotalPrice());
+        }
+        if ((presence & ORDERED_AT) != 0) {
+            LocalDateTime orderedAt = response.getOrderedAt();
+            writer.writeVarLong(orderedAt.toEpochSecond(ZoneOffset.UTC));
+            writer.writeVarInt(orderedAt.getNano());
+        }
+    }
+
+    private static void writeOrderItem(Writer writer, OrderItemResponse orderItem) {
+        int presence = (orderItem.getMenuId() != null ? MENU_ID : 0)
+                | (orderItem.getMenuName() != null ? MENU_NAME : 0)
+                | (orderItem.getMenuPrice() != null ? MENU_PRICE : 0)
+                | (orderItem.getQuantity() != null ? QUANTITY : 0)
+                | (orderItem.getSubtotal() != null ? SUBTOTAL : 0);
+        writer.writeByte(presence);
+
+        if ((presence & MENU_ID) != 0) {
+            writer.writeVarLong(orderItem.getMenuId());
+        }
+        if ((presence & MENU_NAME) != 0) {
+            writer.writeString(orderItem.getMenuName());
+        }
+        if ((presence & MENU_PRICE) != 0) {
+            writer.writeVarInt(orderItem.getMenuPrice());
+        }
+        if ((presence & QUANTITY) != 0) {
+            writer.writeVarInt(orderItem.getQuantity());
+        }
+        if ((presence & SUBTOTAL) != 0) {
+            writer.writeVarInt(orderItem.getSubtotal());
+        }
+    }
+
+    private static OrderResponse readOrder(Reader reader) {
+        int presence = reader.readByte();
+
+        Long id = (presence & ID) != 0 ? reader.readVarLong() : null;
+        String customerName = (presence & CUSTOMER_NAME) != 0 ? reader.readString() : null;
+        OrderStatus status = (presence & STATUS) != 0 ? reader.readStatus() : null;
+        List<OrderItemResponse> orderItems = null;
+        if ((presence & ORDER_ITEMS) != 0) {
+            int size = reader.readLength();
+            orderItems = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                orderItems.add(readOrderItem(reader));
+            }
+        }
+        Integer totalPrice = (presence & TOTAL_PRICE) != 0 ? reader.readVarInt() : null;
+        LocalDateTime orderedAt = null;
+        if ((presence & ORDERED_AT) != 0) {
+            long epochSecond = reader.readVarLong();
+            orderedAt = LocalDateTime.ofEpochSecond(epochSecond, reader.readVarInt(), ZoneOffset.UTC);
+        }
+        return new OrderResponse(id, customerName, status, orderItems, totalPrice, orderedAt);
+    }
+
+    private static OrderItemResponse readOrderItem(Reader reader) {
+        int presence = reader.readByte();
+        Long menuId = (presence & MENU_ID) != 0 ? reader.readVarLong() : null;
+        String menuName = (presence & MENU_NAME) != 0 ? reader.readString() : null;
+        Integer menuPrice = (presence & MENU_PRICE) != 0 ? reader.readVarInt() : null;
+        Integer quantity = (presence & QUANTITY) != 0 ? reader.readVarInt() : null;
+        Integer subtotal = (presence & SUBTOTAL) != 0 ? reader.readVarInt() : null;
+        return new OrderItemResponse(menuId, menuName, menuPrice, quantity, subtotal);
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value);
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[position++] = (byte) zigzag;
+        }
+
+        /**
+         * 길이(UTF-8 바이트 수) + UTF-8 (String.getBytes 없이 버퍼에 바로 인코딩)
+         */
+        void writeString(String value) {
+            int length = value.length();
+            int utf8Length = 0;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    utf8Length++;
+                } else if (c < 0x800) {
+                    utf8Length += 2;
+                } else if (isSurrogatePair(value, i)) {
+                    utf8Length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    utf8Length++;
+                } else {
+                    utf8Length += 3;
+                }
+            }
+            writeVarInt(utf8Length);
+            ensureCapacity(utf8Length);
+
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (isSurrogatePair(value, i)) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // 짝이 없는 서로게이트는 String.getBytes(UTF_8)와 같이 '?'로 바꾼다.
+                    buffer[position++] = '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private static boolean isSurrogatePair(String value, int index) {
+            return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(index + 1));
+        }
+
+        byte[] toByteArray() {
+            return position == buffer.length ? buffer : Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        void readVersion() {
+            int version = readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 주문 응답 형식 버전입니다." + version);
+            }
+        }
+
+        int readByte() {
+            if (position >= buffer.length) {
+                throw new IllegalArgumentException("주문 응답 데이터가 잘렸습니다.");
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        int readVarInt() {
+            long value = readVarLong();
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("int 범위를 벗어난 값입니다." + value);
+            }
+            return (int) value;
+        }
+
+        long readVarLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 입니다.");
+        }
+
+        int readLength() {
+            int length = readVarInt();
+            if (length < 0 || length > buffer.length - position) {
+                throw new IllegalArgumentException("잘못된 길이입니다." + length);
+            }
+            return length;
+        }
+
+        String readString() {
+            int length = readLength();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        OrderStatus readStatus() {
+            int ordinal = readByte();
+            if (ordinal >= STATUSES.length) {
+                throw new IllegalArgumentException("알 수 없는 주문 상태입니다." + ordinal);
+            }
+            return STATUSES[ordinal];
+        }
+    }
+}
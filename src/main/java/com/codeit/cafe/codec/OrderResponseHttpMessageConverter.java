@@ -0,0 +1,47 @@
+package com.codeit.cafe.codec;
+
+import com.codeit.cafe.dto.OrderResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Accept: application/vnd.cafe.order+binary 요청에 OrderResponse를 OrderResponseCodec 형식으로 응답
+ * 단건 주문 응답(OrderResponse)만 지원한다. 목록/페이지 응답(OrderPageResponse 등)은 이 형식으로 요청하면 406이며,
+ * 바이너리가 필요하면 application/cbor 또는 application/x-jackson-smile 을 쓴다.
+ */
+public class OrderResponseHttpMessageConverter extends AbstractHttpMessageConverter<OrderResponse> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.cafe.order+binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public OrderResponseHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OrderResponse.class == clazz;
+    }
+
+    @Override
+    protected OrderResponse readInternal(Class<? extends OrderResponse> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        try {
+            return OrderResponseCodec.decode(inputMessage.getBody().readAllBytes());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(OrderResponse response, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes = OrderResponseCodec.encode(response);
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+}
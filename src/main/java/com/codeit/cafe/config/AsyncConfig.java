@@ -0,0 +1,13 @@
+package com.codeit.cafe.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 설정
+ * spring.threads.virtual.enabled=true 이면 기본 applicationTaskExecutor가 가상 스레드를 사용한다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
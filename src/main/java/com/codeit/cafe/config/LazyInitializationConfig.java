@@ -0,0 +1,27 @@
+package com.codeit.cafe.config;
+
+import com.codeit.cafe.cache.CacheCoherenceListener;
+import com.codeit.cafe.cache.CacheInvalidationBus;
+import com.codeit.cafe.event.OrderEventStream;
+import com.codeit.cafe.service.KitchenScheduler;
+import com.codeit.cafe.service.OrderArchiver;
+import com.codeit.cafe.service.SalesRollup;
+import com.codeit.cafe.service.StockReservationEngine;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * lazy 프로필(spring.main.lazy-initialization=true)에서도 바로 만들어야 하는 빈
+ * 생성 시점에 백그라운드 작업(@Scheduled, 이벤트 dispatcher)을 등록하는 빈은 지연시키면 작업이 시작되지 않는다.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(SalesRollup.class, OrderEventStream.class,
+                KitchenScheduler.class, StockReservationEngine.class, OrderArchiver.class,
+                CacheInvalidationBus.class, CacheCoherenceListener.class);
+    }
+}
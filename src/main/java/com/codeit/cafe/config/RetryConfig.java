@@ -0,0 +1,12 @@
+package com.codeit.cafe.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * 재시도 설정 (낙관적 락 충돌 시 @Retryable 재시도)
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -0,0 +1,13 @@
+package com.codeit.cafe.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 설정 (집계 보관 기간 정리 등)
+ * 작업 스레드 수는 spring.task.scheduling.pool.size 로 정한다. (작업 하나가 오래 걸려도 다른 작업이 밀리지 않도록)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
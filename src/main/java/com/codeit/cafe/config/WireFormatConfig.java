@@ -0,0 +1,39 @@
+package com.codeit.cafe.config;
+
+import com.codeit.cafe.codec.OrderResponseHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 응답 바이너리 형식 (Accept 헤더로 선택, 기본은 JSON)
+ * - application/cbor, application/x-jackson-smile : JSON과 같은 Jackson 설정(spring.jackson.*)을 쓴다.
+ * - application/vnd.cafe.order+binary : OrderResponse 전용 코덱 (단건 주문 응답만, 목록/페이지 응답은 406)
+ * 바이너리 변환기는 JSON 뒤에 두어서 Accept로 형식을 지정하지 않으면 JSON으로 응답한다.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new OrderResponseHttpMessageConverter());
+    }
+}
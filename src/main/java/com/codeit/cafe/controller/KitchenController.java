@@ -0,0 +1,54 @@
+package com.codeit.cafe.controller;
+
+import com.codeit.cafe.dto.KitchenTicketResponse;
+import com.codeit.cafe.service.KitchenScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/kitchen")
+@RequiredArgsConstructor
+public class KitchenController {
+
+    private final KitchenScheduler kitchenScheduler;
+
+    /**
+     * 스테이션이 다음 작업을 가져간다. (대기 중인 작업이 없으면 204)
+     */
+    @PostMapping("/stations/{stationId}/claim")
+    public ResponseEntity<KitchenTicketResponse> claim(@PathVariable String stationId) {
+        return kitchenScheduler.claim(stationId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 리스 연장
+     */
+    @PostMapping("/stations/{stationId}/orders/{orderId}/renew")
+    public KitchenTicketResponse renew(@PathVariable String stationId, @PathVariable long orderId) {
+        return kitchenScheduler.renew(orderId, stationId);
+    }
+
+    /**
+     * 작업 반납 (대기열로 돌려보낸다)
+     */
+    @PostMapping("/stations/{stationId}/orders/{orderId}/release")
+    public ResponseEntity<Void> release(@PathVariable String stationId, @PathVariable long orderId) {
+        kitchenScheduler.release(orderId, stationId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/waiting")
+    public List<KitchenTicketResponse> waiting() {
+        return kitchenScheduler.getWaitingTickets();
+    }
+
+    @GetMapping("/claimed")
+    public List<KitchenTicketResponse> claimed() {
+        return kitchenScheduler.getClaimedTickets();
+    }
+}
@@ -0,0 +1,93 @@
+package com.codeit.cafe.controller;
+
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderCreateResult;
+import com.codeit.cafe.dto.OrderPageResponse;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.dto.OrderStatusUpdateResult;
+import com.codeit.cafe.service.OrderIngestionService;
+import com.codeit.cafe.service.OrderService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Validated
+public class OrderController {
+
+    private final OrderService orderService;
+    private final ObjectProvider<OrderIngestionService> orderIngestionService;
+
+    /**
+     * 주문 생성 (cafe.order.ingestion.enabled=true 이면 그룹 커밋 파이프라인으로 접수)
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request) {
+        OrderIngestionService ingestionService = orderIngestionService.getIfAvailable();
+        if (ingestionService != null) {
+            return ingestionService.submit(request);
+        }
+        return CompletableFuture.completedFuture(orderService.createOrder(request));
+    }
+
+    /**
+     * 주문 일괄 생성 (키오스크, 배달 플랫폼, 이미 쓰인 멱등 키의 주문은 기존 주문을 돌려준다)
+     */
+    @PostMapping("/bulk")
+    public List<OrderCreateResult> createOrders(@RequestBody @NotEmpty List<@Valid OrderCreateRequest> requests) {
+        return orderService.createOrders(requests);
+    }
+
+    /**
+     * 주문 목록 조회 (status 또는 customerName, 다음 페이지는 afterOrderedAt + afterId 커서)
+     */
+    @GetMapping
+    public OrderPageResponse getOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String customerName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterOrderedAt,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        if (status != null) {
+            return orderService.getOrdersByStatus(status, afterOrderedAt, afterId, size);
+        }
+        if (customerName != null) {
+            return orderService.getOrdersByCustomer(customerName, afterOrderedAt, afterId, size);
+        }
+        throw new IllegalArgumentException("status 또는 customerName 중 하나는 필수입니다.");
+    }
+
+    @GetMapping("/{orderId}")
+    public OrderResponse getOrder(@PathVariable long orderId) {
+        return orderService.getOrder(orderId);
+    }
+
+    @PatchMapping("/{orderId}/status")
+    public OrderResponse updateOrderStatus(@PathVariable long orderId, @RequestParam OrderStatus status) {
+        return orderService.updateOrderStatus(orderId, status);
+    }
+
+    /**
+     * 주문 상태 일괄 변경 (주방 디스플레이)
+     */
+    @PatchMapping("/status")
+    public List<OrderStatusUpdateResult> updateOrderStatuses(@RequestParam OrderStatus status,
+                                                             @RequestBody @NotEmpty List<Long> orderIds) {
+        return orderService.updateOrderStatuses(orderIds, status);
+    }
+}
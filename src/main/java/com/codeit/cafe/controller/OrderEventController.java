@@ -0,0 +1,31 @@
+package com.codeit.cafe.controller;
+
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.event.OrderEventStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/orders/events")
+@RequiredArgsConstructor
+public class OrderEventController {
+
+    private final OrderEventStream orderEventStream;
+
+    /**
+     * 주문 상태 변경 구독 (SSE)
+     * 예) /api/orders/events?status=PREPARING&status=COMPLETED, /api/orders/events?orderId=1
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(name = "status", required = false) Set<OrderStatus> statuses,
+                                @RequestParam(required = false) Long orderId) {
+        return orderEventStream.subscribe(statuses, orderId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.codeit.cafe.controller;
+
+import com.codeit.cafe.dto.MenuSalesResponse;
+import com.codeit.cafe.dto.SalesBucketResponse;
+import com.codeit.cafe.service.SalesRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sales")
+@RequiredArgsConstructor
+public class SalesController {
+
+    private final SalesRollup salesRollup;
+
+    /**
+     * 기간 내 판매 수량 상위 메뉴
+     */
+    @GetMapping("/top-sellers")
+    public List<MenuSalesResponse> topSellers(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int limit) {
+        return salesRollup.topSellers(from, to, limit);
+    }
+
+    /**
+     * 시간별 매출 ([from, to))
+     */
+    @GetMapping("/revenue/hourly")
+    public List<SalesBucketResponse> hourlyRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return salesRollup.hourlyRevenue(from, to);
+    }
+
+    /**
+     * 일별 매출 ([from, to])
+     */
+    @GetMapping("/revenue/daily")
+    public List<SalesBucketResponse> dailyRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return salesRollup.dailyRevenue(from, to);
+    }
+}
@@ -0,0 +1,49 @@
+package com.codeit.cafe.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 주문 (COMPLETED, CANCELLED 상태로 일정 기간이 지난 주문, OrderArchiver가 orders에서 옮긴다)
+ * 읽기 전용이며 id는 원래 주문 id를 그대로 쓴다.
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_ordered_at", columnList = "ordered_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String customerName;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private Integer totalPrice;
+
+    @Column(nullable = false)
+    private LocalDateTime orderedAt;
+
+    private Long version;
+
+    @Column(length = 64)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+}
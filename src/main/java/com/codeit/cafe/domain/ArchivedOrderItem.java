@@ -0,0 +1,37 @@
+package com.codeit.cafe.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 주문 항목 (연관관계 없이 order_id, menu_id 값만 가진다)
+ */
+@Entity
+@Table(name = "order_items_archive", indexes = {
+        @Index(name = "idx_order_items_archive_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrderItem {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long menuId;
+
+    @Column(nullable = false)
+    private String menuName;
+
+    @Column(nullable = false)
+    private Integer menuPrice;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+}
@@ -0,0 +1,43 @@
+package com.codeit.cafe.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 기록 (노드 간 변경 로그, DatabaseCacheInvalidationBus가 JDBC로 쓰고 읽는다)
+ * 엔티티는 ddl-auto 스키마 생성용이다.
+ * id 순서로 읽으므로 노드마다 번호 블록을 미리 받아 가는 시퀀스 대신 IDENTITY를 쓴다.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+        @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private CacheRegion region;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+}
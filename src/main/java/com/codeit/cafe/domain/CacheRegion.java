@@ -0,0 +1,10 @@
+package com.codeit.cafe.domain;
+
+/**
+ * 노드 간 무효화 대상 캐시 종류
+ */
+public enum CacheRegion {
+    MENU,          // 메뉴 카탈로그 (키: 메뉴 id)
+    MENU_STOCK,    // 재고 카운터 (키: 메뉴 id)
+    ORDER          // getOrder 응답 캐시 (키: 주문 id)
+}
@@ -5,18 +5,22 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * 메뉴 엔티티
+ * 가격/판매 여부만 바꿀 때 읽어 둔 stock 을 다시 쓰지 않도록 바뀐 컬럼만 update 한다.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "menus")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Menu {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_seq")
+    @SequenceGenerator(name = "menu_seq", sequenceName = "menus_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -28,14 +32,30 @@ public class Menu {
     @Column(nullable = false)
     private Boolean available;
 
+    // 한정 수량 메뉴의 아직 어느 노드도 가져가지 않은 재고 (null이면 무제한, StockReservationEngine)
+    private Integer stock;
+
+    // 1개당 예상 조리 시간(초), null이면 cafe.kitchen.default-prep-seconds
+    private Integer prepSeconds;
+
     @Builder
-    public Menu(String name, Integer price, Boolean available) {
+    public Menu(String name, Integer price, Boolean available, Integer stock, Integer prepSeconds) {
         this.name = name;
         this.price = price;
         this.available = available != null ? available : true;
+        this.stock = stock;
+        this.prepSeconds = prepSeconds;
     }
 
     public void updateAvailability(boolean available) {
         this.available = available;
     }
+
+    public void updatePrice(int price) {
+        this.price = price;
+    }
+
+    public void updateStock(Integer stock) {
+        this.stock = stock;
+    }
 }
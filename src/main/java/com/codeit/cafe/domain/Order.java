@@ -2,6 +2,8 @@ package com.codeit.cafe.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,20 +13,29 @@ import java.util.List;
  * 주문 엔티티
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_orders_idempotency_key", columnNames = "idempotency_key")
+}, indexes = {
+        // 키셋 페이지네이션 (ordered_at, id) 용 복합 인덱스
+        @Index(name = "idx_orders_status_ordered_at", columnList = "status, ordered_at, id"),
+        @Index(name = "idx_orders_customer_name_ordered_at", columnList = "customer_name, ordered_at, id"),
+        @Index(name = "idx_orders_ordered_at", columnList = "ordered_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+    @SequenceGenerator(name = "order_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String customerName;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
     private OrderStatus status;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -36,25 +47,44 @@ public class Order {
     @Column(nullable = false)
     private LocalDateTime orderedAt;
 
+    // 낙관적 락 (동시에 상태를 변경하면 나중 커밋이 실패한다)
+    @Version
+    private Long version;
+
+    // 중복 주문 방지용 멱등 키 (없으면 null)
+    @Column(length = 64)
+    private String idempotencyKey;
+
     @Builder
-    public Order(String customerName) {
+    public Order(String customerName, String idempotencyKey) {
         this.customerName = customerName;
+        this.idempotencyKey = idempotencyKey;
         this.status = OrderStatus.PENDING;
         this.totalPrice = 0;
         this.orderedAt = LocalDateTime.now();
     }
 
     public void addOrderItem(Menu menu, int quantity) {
-        OrderItem orderItem = OrderItem.builder()
-                .order(this)
-                .menu(menu)
-                .menuName(menu.getName())
-                .menuPrice(menu.getPrice())
-                .quantity(quantity)
-                .build();
-
+        OrderItem orderItem = createOrderItem(menu, quantity);
+        // 총 금액은 누적 계산 (전체 항목을 다시 합산하지 않는다)
+        this.totalPrice = toTotalPrice(this.totalPrice + subtotalOf(orderItem));
         this.orderItems.add(orderItem);
-        calculateTotalPrice();
+    }
+
+    /**
+     * 주문 항목 일괄 추가 (총 금액은 마지막에 한 번만 반영)
+     */
+    public void addOrderItems(List<OrderLine> orderLines) {
+        List<OrderItem> newItems = new ArrayList<>(orderLines.size());
+        long total = this.totalPrice;
+        for (OrderLine orderLine : orderLines) {
+            OrderItem orderItem = createOrderItem(orderLine.getMenu(), orderLine.getQuantity());
+            newItems.add(orderItem);
+            // 항목마다 범위를 확인하므로 long 합계는 넘치지 않는다.
+            total = validateTotal(total + subtotalOf(orderItem));
+        }
+        this.totalPrice = (int) total;
+        this.orderItems.addAll(newItems);
     }
 
     public void updateStatus(OrderStatus newStatus) {
@@ -70,24 +100,29 @@ public class Order {
         }
     }
 
-    private void calculateTotalPrice() {
-        // 총 금액 계산
-        this.totalPrice = orderItems.stream()
-                .mapToInt(item -> item.getMenuPrice() * item.getQuantity())
-                .sum();
+    private OrderItem createOrderItem(Menu menu, int quantity) {
+        return OrderItem.builder()
+                .order(this)
+                .menu(menu)
+                .menuName(menu.getName())
+                .menuPrice(menu.getPrice())
+                .quantity(quantity)
+                .build();
     }
 
-}
-
-
-
-
-
-
-
-
-
-
+    private static long subtotalOf(OrderItem orderItem) {
+        return (long) orderItem.getMenuPrice() * orderItem.getQuantity();
+    }
 
+    private static int toTotalPrice(long total) {
+        return (int) validateTotal(total);
+    }
 
+    private static long validateTotal(long total) {
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalStateException("주문 금액이 허용 범위를 초과했습니다." + total);
+        }
+        return total;
+    }
 
+}
@@ -0,0 +1,16 @@
+package com.codeit.cafe.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 항목 추가 정보 (메뉴 + 수량)
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class OrderLine {
+
+    private final Menu menu;
+    private final int quantity;
+
+}
@@ -1,6 +1,10 @@
 package com.codeit.cafe.domain;
 
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -13,15 +17,36 @@ public enum OrderStatus {
     COMPLETED,    // 완료
     CANCELLED;    // 취소됨
 
+    // 상태 전환표 (클래스 로딩 시 한 번만 생성)
+    private static final Map<OrderStatus, Set<OrderStatus>> NEXT_STATUSES = new EnumMap<>(OrderStatus.class);
+    private static final int[] NEXT_STATUS_MASKS = new int[values().length];
+
+    static {
+        allow(PENDING, EnumSet.of(CONFIRMED, CANCELLED));
+        allow(CONFIRMED, EnumSet.of(PREPARING, CANCELLED));
+        allow(PREPARING, EnumSet.of(COMPLETED));
+        allow(COMPLETED, EnumSet.noneOf(OrderStatus.class));
+        allow(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    private static void allow(OrderStatus from, EnumSet<OrderStatus> nextStatuses) {
+        NEXT_STATUSES.put(from, Collections.unmodifiableSet(nextStatuses));
+        for (OrderStatus next : nextStatuses) {
+            NEXT_STATUS_MASKS[from.ordinal()] |= 1 << next.ordinal();
+        }
+    }
+
     /**
-     * 특정 상태로 전환 가능한지 확인
+     * 특정 상태로 전환 가능한지 확인 (비트마스크 조회, 객체 생성 없음)
      */
     public boolean canTransitionTo(OrderStatus newStatus) {
-        return switch (this) {
-            case PENDING -> Set.of(CONFIRMED, CANCELLED).contains(newStatus);
-            case CONFIRMED -> Set.of(PREPARING, CANCELLED).contains(newStatus);
-            case PREPARING -> Set.of(COMPLETED).contains(newStatus);
-            case COMPLETED, CANCELLED -> false;
-        };
+        return (NEXT_STATUS_MASKS[ordinal()] & (1 << newStatus.ordinal())) != 0;
+    }
+
+    /**
+     * 현재 상태에서 전환 가능한 상태 목록
+     */
+    public Set<OrderStatus> nextStatuses() {
+        return NEXT_STATUSES.get(this);
     }
-}
\ No newline at end of file
+}
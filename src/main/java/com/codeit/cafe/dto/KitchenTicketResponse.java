@@ -0,0 +1,26 @@
+package com.codeit.cafe.dto;
+
+import com.codeit.cafe.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주방 작업 응답 DTO (대기 중이면 stationId, leaseExpiresAt은 null)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class KitchenTicketResponse {
+
+    private Long orderId;
+    private OrderStatus status;
+    private LocalDateTime orderedAt;
+    private int itemCount;
+    private int estimatedPrepSeconds;
+    private String stationId;
+    private LocalDateTime leaseExpiresAt;
+
+}
@@ -0,0 +1,20 @@
+package com.codeit.cafe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 메뉴별 판매 집계 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class MenuSalesResponse {
+
+    private Long menuId;
+    private String menuName;
+    private long quantity;
+    private long revenue;
+
+}
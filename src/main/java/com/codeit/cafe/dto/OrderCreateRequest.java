@@ -3,6 +3,7 @@ package com.codeit.cafe.dto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +24,10 @@ public class OrderCreateRequest {
     @Valid
     private List<OrderItemRequest> orderItems;
 
+    // 클라이언트가 재시도해도 같은 값을 보내는 멱등 키 (선택)
+    @Size(max = 64, message = "멱등 키는 64자 이하여야 합니다.")
+    private String idempotencyKey;
+
 }
 
 
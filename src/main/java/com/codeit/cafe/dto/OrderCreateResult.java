@@ -0,0 +1,40 @@
+package com.codeit.cafe.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 주문 생성 결과 DTO (요청 순서별 성공/실패)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class OrderCreateResult {
+
+    private int index;
+    private boolean success;
+    private OrderResponse order;
+    private String errorMessage;
+    // 실패 원인 (응답에는 메시지만 내보내고, 그룹 커밋 접수는 이 예외로 future를 끝낸다)
+    @JsonIgnore
+    private RuntimeException error;
+
+    public static OrderCreateResult success(int index, OrderResponse order) {
+        return OrderCreateResult.builder()
+                .index(index)
+                .success(true)
+                .order(order)
+                .build();
+    }
+
+    public static OrderCreateResult failure(int index, RuntimeException error) {
+        return OrderCreateResult.builder()
+                .index(index)
+                .success(false)
+                .errorMessage(error.getMessage())
+                .error(error)
+                .build();
+    }
+}
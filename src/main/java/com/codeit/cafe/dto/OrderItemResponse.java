@@ -4,6 +4,7 @@ import com.codeit.cafe.domain.OrderItem;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 주문 항목 응답 DTO
@@ -11,6 +12,7 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 @Builder
+@Jacksonized
 public class OrderItemResponse {
 
     private Long menuId;
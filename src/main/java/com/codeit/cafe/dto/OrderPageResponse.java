@@ -0,0 +1,32 @@
+package com.codeit.cafe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 목록 페이지 응답 DTO (키셋 페이지네이션)
+ * 다음 페이지는 nextOrderedAt, nextId를 커서로 넘겨서 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class OrderPageResponse {
+
+    private List<OrderSummaryResponse> orders;
+    private boolean hasNext;
+    private LocalDateTime nextOrderedAt;
+    private Long nextId;
+
+    public static OrderPageResponse of(List<OrderSummaryResponse> rows, int size) {
+        if (rows.size() <= size) {
+            return new OrderPageResponse(rows, false, null, null);
+        }
+        List<OrderSummaryResponse> orders = rows.subList(0, size);
+        OrderSummaryResponse last = orders.get(size - 1);
+        return new OrderPageResponse(orders, true, last.getOrderedAt(), last.getId());
+    }
+}
@@ -5,8 +5,10 @@ import com.codeit.cafe.domain.OrderStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -15,6 +17,7 @@ import java.util.List;
 @Getter
 @AllArgsConstructor
 @Builder
+@Jacksonized
 public class OrderResponse {
 
     private Long id;
@@ -36,4 +39,20 @@ public class OrderResponse {
                 .orderedAt(order.getOrderedAt())
                 .build();
     }
+
+    /**
+     * 조회 행으로 응답 생성 (행은 모두 같은 주문이어야 한다)
+     */
+    public static OrderResponse fromRows(List<OrderRow> rows) {
+        OrderRow first = rows.get(0);
+        List<OrderItemResponse> orderItems = new ArrayList<>(rows.size());
+        for (OrderRow row : rows) {
+            if (row.getMenuId() != null) {
+                orderItems.add(new OrderItemResponse(row.getMenuId(), row.getMenuName(), row.getMenuPrice(),
+                        row.getQuantity(), row.getMenuPrice() * row.getQuantity()));
+            }
+        }
+        return new OrderResponse(first.getOrderId(), first.getCustomerName(), first.getStatus(), orderItems,
+                first.getTotalPrice(), first.getOrderedAt());
+    }
 }
@@ -0,0 +1,27 @@
+package com.codeit.cafe.dto;
+
+import com.codeit.cafe.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 + 주문 항목 1건 행 (조회/내보내기용 프로젝션)
+ * 엔티티가 아닌 프로젝션이라 영속성 컨텍스트에 쌓이지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderRow {
+
+    private Long orderId;
+    private String customerName;
+    private OrderStatus status;
+    private Integer totalPrice;
+    private LocalDateTime orderedAt;
+    private Long menuId;
+    private String menuName;
+    private Integer menuPrice;
+    private Integer quantity;
+
+}
@@ -0,0 +1,22 @@
+package com.codeit.cafe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 상태 변경 결과 DTO (주문별)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusUpdateResult {
+
+    private Long orderId;
+    private Outcome outcome;
+
+    public enum Outcome {
+        UPDATED,             // 변경됨
+        NOT_FOUND,           // 존재하지 않는 주문
+        INVALID_TRANSITION,  // 허용되지 않는 상태 전환
+        CONFLICT             // 처리 중 다른 요청이 먼저 상태를 변경함
+    }
+}
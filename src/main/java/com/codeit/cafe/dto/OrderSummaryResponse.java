@@ -0,0 +1,24 @@
+package com.codeit.cafe.dto;
+
+import com.codeit.cafe.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록용 요약 응답 DTO (주문 항목 제외)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class OrderSummaryResponse {
+
+    private Long id;
+    private String customerName;
+    private OrderStatus status;
+    private Integer totalPrice;
+    private LocalDateTime orderedAt;
+
+}
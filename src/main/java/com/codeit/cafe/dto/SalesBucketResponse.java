@@ -0,0 +1,21 @@
+package com.codeit.cafe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간대별(시간/일) 매출 집계 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class SalesBucketResponse {
+
+    private LocalDateTime bucketStart;
+    private long quantity;
+    private long revenue;
+
+}
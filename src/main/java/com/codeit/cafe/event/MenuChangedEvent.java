@@ -0,0 +1,15 @@
+package com.codeit.cafe.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메뉴 변경 이벤트 (판매 여부, 가격, 재고 변경)
+ */
+@Getter
+@AllArgsConstructor
+public class MenuChangedEvent {
+
+    private final Long menuId;
+
+}
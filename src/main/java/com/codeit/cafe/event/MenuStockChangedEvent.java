@@ -0,0 +1,16 @@
+package com.codeit.cafe.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메뉴 재고 변경 이벤트 (관리자가 재고를 바꿨을 때만, 판매 여부/가격 변경에는 발행하지 않는다)
+ * 이 이벤트를 받으면 재고 카운터를 DB 값으로 다시 만든다.
+ */
+@Getter
+@AllArgsConstructor
+public class MenuStockChangedEvent {
+
+    private final Long menuId;
+
+}
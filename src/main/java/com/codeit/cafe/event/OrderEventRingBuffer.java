@@ -0,0 +1,90 @@
+package com.codeit.cafe.event;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * 주문 이벤트 링 버퍼 (고정 크기, 락 없음)
+ * 쓰는 쪽은 기다리지 않고 가장 오래된 이벤트를 덮어쓴다. 읽는 쪽은 각자 시퀀스 커서를 가진다.
+ */
+public class OrderEventRingBuffer {
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    public OrderEventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public long publish(OrderStatusChangedEvent event) {
+        long sequence = nextSequence.getAndIncrement();
+        slots.set((int) (sequence & mask), new Slot(sequence, event));
+        return sequence;
+    }
+
+    /**
+     * 다음에 발행될 시퀀스 (지금까지 발행을 시작한 이벤트 수)
+     */
+    public long nextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * 시퀀스 위치의 슬롯 조회
+     * 슬롯의 시퀀스가 요청보다 작으면 아직 기록 중이고, 크면 이미 덮어써진 것이다.
+     */
+    public Slot slot(long sequence) {
+        return slots.get((int) (sequence & mask));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * from 시퀀스부터 지금까지 발행된 이벤트를 주문별 최신 상태로 합쳐서 읽는다.
+     * 한 바퀴 이상 밀려 덮어써진 이벤트는 건너뛰고 dropped로 센다. 아직 기록 중인 슬롯에서 멈춘다.
+     */
+    public Batch read(long from, Predicate<OrderStatusChangedEvent> filter) {
+        long head = nextSequence.get();
+        long cursor = from;
+        long dropped = 0;
+        long oldest = head - capacity();
+        if (cursor < oldest) {
+            dropped += oldest - cursor;
+            cursor = oldest;
+        }
+
+        Map<Long, OrderStatusChangedEvent> latest = new LinkedHashMap<>();
+        while (cursor < head) {
+            Slot slot = slot(cursor);
+            if (slot == null || slot.sequence() < cursor) {
+                break; // 아직 기록 중
+            }
+            if (slot.sequence() > cursor) {
+                dropped++;
+            } else if (filter.test(slot.event())) {
+                latest.remove(slot.event().getOrderId());
+                latest.put(slot.event().getOrderId(), slot.event());
+            }
+            cursor++;
+        }
+        return new Batch(List.copyOf(latest.values()), cursor, dropped);
+    }
+
+    public record Slot(long sequence, OrderStatusChangedEvent event) {
+    }
+
+    /**
+     * 읽은 결과 (보낼 이벤트, 다음 커서, 건너뛴 이벤트 수)
+     */
+    public record Batch(List<OrderStatusChangedEvent> events, long nextCursor, long dropped) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.codeit.cafe.event;
+
+import com.codeit.cafe.domain.OrderStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 주문 상태 실시간 스트림 (카운터 화면, 픽업 보드)
+ * 커밋된 상태 변경을 링 버퍼에 넣고, 구독자별 커서로 읽어서 SSE로 보낸다.
+ * 느린 구독자는 밀린 이벤트를 주문별 최신 상태로 합치고(coalesce), 링 버퍼가 한 바퀴 돌면 건너뛴다(drop).
+ * 다른 노드에서 바뀐 상태는 CacheCoherenceListener 가 다시 읽어 넣는다. (previousStatus 없이)
+ */
+@Slf4j
+@Component
+public class OrderEventStream {
+
+    private final OrderEventRingBuffer ringBuffer;
+    private final long emitterTimeoutMillis;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final LongAdder dropped = new LongAdder();
+
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(daemon("order-event-dispatcher"));
+    private final ExecutorService senders;
+
+    public OrderEventStream(@Value("${cafe.order-events.ring-capacity:4096}") int ringCapacity,
+                            @Value("${cafe.order-events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                            @Value("${cafe.order-events.dispatch-interval-ms:50}") long dispatchIntervalMillis) {
+        this.ringBuffer = new OrderEventRingBuffer(ringCapacity);
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        // SSE 전송은 대부분 소켓 쓰기 대기이므로 실행 모드와 상관없이 가상 스레드로 보낸다.
+        // 느린 구독자가 있어도 플랫폼 스레드를 붙잡지 않고, sending 플래그로 구독자당 최대 한 개만 돈다.
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-event-sender-", 0).factory());
+        dispatcher.scheduleWithFixedDelay(this::dispatch, dispatchIntervalMillis, dispatchIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 커밋된 상태 변경만 발행 (쓰기 경로는 링 버퍼에 넣기만 하고 기다리지 않는다)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        ringBuffer.publish(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusesChanged(OrderStatusesChangedEvent event) {
+        event.getChanges().forEach(ringBuffer::publish);
+    }
+
+    /**
+     * 구독 (statuses가 비어 있으면 모든 상태, orderId가 null이면 모든 주문)
+     */
+    public SseEmitter subscribe(Set<OrderStatus> statuses, Long orderId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscription subscription = new Subscription(emitter, filterOf(statuses, orderId), ringBuffer.nextSequence());
+
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    private void dispatch() {
+        long head = ringBuffer.nextSequence();
+        for (Subscription subscription : subscriptions) {
+            // 전송 중인 구독자는 건너뛰고 다음 주기에 밀린 이벤트를 한 번에 보낸다.
+            if (subscription.cursor < head && subscription.sending.compareAndSet(false, true)) {
+                try {
+                    senders.execute(() -> drain(subscription));
+                } catch (RejectedExecutionException e) {
+                    subscription.sending.set(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * 구독 조건 (statuses가 비어 있으면 모든 상태, orderId가 null이면 모든 주문)
+     */
+    static Predicate<OrderStatusChangedEvent> filterOf(Set<OrderStatus> statuses, Long orderId) {
+        Set<OrderStatus> filter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(OrderStatus.class)
+                : EnumSet.copyOf(statuses);
+        return event -> filter.contains(event.getStatus())
+                && (orderId == null || orderId.equals(event.getOrderId()));
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            // 주문별 최신 상태만 남긴다.
+            OrderEventRingBuffer.Batch batch = ringBuffer.read(subscription.cursor, subscription.filter);
+            subscription.cursor = batch.nextCursor();
+            dropped.add(batch.dropped());
+
+            for (OrderStatusChangedEvent event : batch.events()) {
+                subscription.emitter.send(SseEmitter.event()
+                        .name("order-status")
+                        .data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("주문 이벤트 구독 종료: {}", e.getMessage());
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(e);
+        } finally {
+            subscription.sending.set(false);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Predicate<OrderStatusChangedEvent> filter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // sending 플래그로 한 번에 하나의 스레드만 접근한다.
+        private volatile long cursor;
+
+        private Subscription(SseEmitter emitter, Predicate<OrderStatusChangedEvent> filter, long cursor) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.cursor = cursor;
+        }
+    }
+}
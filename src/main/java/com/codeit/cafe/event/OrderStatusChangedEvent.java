@@ -0,0 +1,35 @@
+package com.codeit.cafe.event;
+
+import com.codeit.cafe.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이벤트 (주문 생성 시, 다른 노드에서 바뀐 상태를 다시 읽은 경우 previousStatus는 null)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final OrderStatus previousStatus;
+    private final OrderStatus status;
+    private final LocalDateTime occurredAt;
+
+    public static OrderStatusChangedEvent created(Long orderId) {
+        return new OrderStatusChangedEvent(orderId, null, OrderStatus.PENDING, LocalDateTime.now());
+    }
+
+    /**
+     * 다른 노드에서 바뀐 주문의 현재 상태 (이전 상태는 알 수 없다)
+     */
+    public static OrderStatusChangedEvent refreshed(Long orderId, OrderStatus status) {
+        return new OrderStatusChangedEvent(orderId, null, status, LocalDateTime.now());
+    }
+
+    public static OrderStatusChangedEvent changed(Long orderId, OrderStatus previousStatus, OrderStatus status) {
+        return new OrderStatusChangedEvent(orderId, previousStatus, status, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,18 @@
+package com.codeit.cafe.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 변경 이벤트 (한 트랜잭션에서 바뀐 주문들)
+ * 리스너는 주문마다 따로 조회하지 않고 필요한 주문을 한 번에 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusesChangedEvent {
+
+    private final List<OrderStatusChangedEvent> changes;
+
+}
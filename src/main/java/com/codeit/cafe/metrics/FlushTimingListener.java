@@ -0,0 +1,19 @@
+package com.codeit.cafe.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * flush 시간을 요청 단위로 측정 (hibernate.session.events.auto 로 세션마다 생성)
+ */
+public class FlushTimingListener extends BaseSessionEventListener {
+
+    @Override
+    public void flushStart() {
+        RequestStatistics.flushStarted();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestStatistics.flushEnded();
+    }
+}
@@ -0,0 +1,57 @@
+package com.codeit.cafe.metrics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 단위 Hibernate 통계 수집 설정 (SQL 문 수, 엔티티 로드 수, flush 시간)
+ */
+@Configuration
+@EnableConfigurationProperties(StatementBudgetProperties.class)
+public class HibernateStatisticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+        return properties -> {
+            Object configured = properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector(toInspector(configured)));
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, FlushTimingListener.class.getName());
+        };
+    }
+
+    @Bean
+    public SmartInitializingSingleton entityLoadCounter(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            PostLoadEventListener listener = event -> RequestStatistics.entityLoaded();
+            registry.appendListeners(EventType.POST_LOAD, listener);
+        };
+    }
+
+    private static StatementInspector toInspector(Object configured) {
+        if (configured == null) {
+            return null;
+        }
+        if (configured instanceof StatementInspector inspector) {
+            return inspector;
+        }
+        try {
+            Class<?> type = configured instanceof Class<?> clazz ? clazz : Class.forName(configured.toString());
+            return (StatementInspector) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("StatementInspector를 생성할 수 없습니다: " + configured, e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.codeit.cafe.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OrderService 호출마다 SQL 문 수, 엔티티 로드 수, flush 시간을 기록하고
+ * 메서드별 허용 SQL 문 수를 넘으면 경고를 남긴다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class OrderServiceStatisticsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final StatementBudgetProperties budgetProperties;
+
+    private final Map<String, MethodStatistics> methodStatistics = new ConcurrentHashMap<>();
+    // 메서드 이름 -> 미터 (호출마다 레지스트리를 조회하지 않도록 한 번만 등록)
+    private final Map<String, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.codeit.cafe.service.OrderService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestStatistics statistics = RequestStatistics.open();
+        if (statistics == null) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            statistics.close();
+            report(joinPoint.getSignature().getName(), statistics);
+        }
+    }
+
+    /**
+     * 메서드별 누적 통계 (액추에이터 엔드포인트용)
+     */
+    public Map<String, MethodStatistics> getMethodStatistics() {
+        return Map.copyOf(methodStatistics);
+    }
+
+    private void report(String method, RequestStatistics statistics) {
+        MethodMeters meters = methodMeters.computeIfAbsent(method, this::registerMeters);
+        meters.statements.record(statistics.getStatements());
+        meters.entityLoads.record(statistics.getEntityLoads());
+        meters.flushTime.record(statistics.getFlushNanos(), TimeUnit.NANOSECONDS);
+
+        Integer budget = budgetProperties.getStatementBudget().get(method);
+        boolean exceeded = budget != null && statistics.getStatements() > budget;
+        methodStatistics.computeIfAbsent(method, key -> new MethodStatistics(budget))
+                .record(statistics.getStatements(), statistics.getEntityLoads(), exceeded);
+
+        if (exceeded) {
+            meters.budgetExceeded.increment();
+            log.warn("SQL 문 수가 허용치를 초과했습니다. method={}, statements={}, budget={}, entityLoads={}",
+                    method, statistics.getStatements(), budget, statistics.getEntityLoads());
+        }
+    }
+
+    private MethodMeters registerMeters(String method) {
+        return new MethodMeters(
+                DistributionSummary.builder("cafe.order.sql.statements")
+                        .tag("method", method)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                DistributionSummary.builder("cafe.order.entity.loads")
+                        .tag("method", method)
+                        .register(meterRegistry),
+                Timer.builder("cafe.order.flush.time")
+                        .tag("method", method)
+                        .register(meterRegistry),
+                meterRegistry.counter("cafe.order.sql.budget.exceeded", "method", method));
+    }
+
+    private record MethodMeters(DistributionSummary statements,
+                                DistributionSummary entityLoads,
+                                Timer flushTime,
+                                Counter budgetExceeded) {
+    }
+
+    public static class MethodStatistics {
+
+        private final Integer budget;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder entityLoads = new LongAdder();
+        private final LongAdder budgetExceeded = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        MethodStatistics(Integer budget) {
+            this.budget = budget;
+        }
+
+        void record(int statementCount, int entityLoadCount, boolean exceeded) {
+            calls.increment();
+            statements.add(statementCount);
+            entityLoads.add(entityLoadCount);
+            maxStatements.accumulateAndGet(statementCount, Math::max);
+            if (exceeded) {
+                budgetExceeded.increment();
+            }
+        }
+
+        public Integer getBudget() {
+            return budget;
+        }
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public long getEntityLoads() {
+            return entityLoads.sum();
+        }
+
+        public long getMaxStatements() {
+            return maxStatements.get();
+        }
+
+        public long getBudgetExceeded() {
+            return budgetExceeded.sum();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.codeit.cafe.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/orderstatements : OrderService 메서드별 SQL 문 수 / 허용치 초과 현황
+ */
+@Component
+@Endpoint(id = "orderstatements")
+@RequiredArgsConstructor
+public class OrderStatementsEndpoint {
+
+    private final OrderServiceStatisticsAspect statisticsAspect;
+
+    @ReadOperation
+    public Map<String, OrderServiceStatisticsAspect.MethodStatistics> statements() {
+        return statisticsAspect.getMethodStatistics();
+    }
+}
@@ -0,0 +1,75 @@
+package com.codeit.cafe.metrics;
+
+/**
+ * 요청(서비스 메서드 호출) 단위 Hibernate 통계
+ * 스레드별로 열린 범위가 있을 때만 집계한다.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private long flushNanos;
+    private long flushStartedAt;
+
+    private RequestStatistics() {
+    }
+
+    /**
+     * 범위 시작 (이미 열린 범위가 있으면 null)
+     */
+    public static RequestStatistics open() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public void close() {
+        CURRENT.remove();
+    }
+
+    static void statementExecuted() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads++;
+        }
+    }
+
+    static void flushStarted() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.flushStartedAt = System.nanoTime();
+        }
+    }
+
+    static void flushEnded() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null && statistics.flushStartedAt != 0) {
+            statistics.flushNanos += System.nanoTime() - statistics.flushStartedAt;
+            statistics.flushStartedAt = 0;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getFlushNanos() {
+        return flushNanos;
+    }
+}
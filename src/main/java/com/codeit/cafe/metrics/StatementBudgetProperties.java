@@ -0,0 +1,21 @@
+package com.codeit.cafe.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OrderService 메서드별 SQL 문 허용 개수 (초과하면 경고, N+1 감지용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cafe.metrics")
+public class StatementBudgetProperties {
+
+    // 메서드 이름 -> 허용 SQL 문 수
+    private Map<String, Integer> statementBudget = new HashMap<>();
+
+}
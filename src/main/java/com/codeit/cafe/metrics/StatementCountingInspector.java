@@ -0,0 +1,22 @@
+package com.codeit.cafe.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 실행되는 SQL 문 수를 요청 단위로 센다.
+ * 설정에 다른 StatementInspector가 있으면 이어서 호출한다.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private final StatementInspector delegate;
+
+    public StatementCountingInspector(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatistics.statementExecuted();
+        return delegate != null ? delegate.inspect(sql) : sql;
+    }
+}
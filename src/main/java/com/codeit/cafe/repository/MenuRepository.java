@@ -2,6 +2,8 @@ package com.codeit.cafe.repository;
 
 import com.codeit.cafe.domain.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -10,4 +12,22 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     // 판매 가능한 메뉴 조회
     List<Menu> findByAvailableTrue();
 
+    // 재고를 관리하는 메뉴 조회
+    List<Menu> findByStockIsNotNull();
+
+    /**
+     * 노드가 재고를 가져간다 (남은 재고가 수량 이상일 때만, StockReservationEngine)
+     * 0을 반환하면 그 사이 다른 노드가 먼저 가져간 것이다.
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.stock = m.stock - :quantity WHERE m.id = :id AND m.stock >= :quantity")
+    int takeStock(Long id, int quantity);
+
+    /**
+     * 노드가 쓰지 않은 재고를 돌려준다 (재고를 관리하는 메뉴만, StockReservationEngine 종료 시)
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.stock = m.stock + :quantity WHERE m.id = :id AND m.stock IS NOT NULL")
+    int returnStock(Long id, int quantity);
+
 }
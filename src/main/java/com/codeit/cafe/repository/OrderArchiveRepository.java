@@ -0,0 +1,70 @@
+package com.codeit.cafe.repository;
+
+import com.codeit.cafe.domain.ArchivedOrder;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface OrderArchiveRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    String ARCHIVED_ORDER_ROW = "SELECT new com.codeit.cafe.dto.OrderRow(" +
+            "o.id, o.customerName, o.status, o.totalPrice, o.orderedAt, i.menuId, i.menuName, i.menuPrice, i.quantity) " +
+            "FROM ArchivedOrder o LEFT JOIN ArchivedOrderItem i ON i.orderId = o.id ";
+
+    /**
+     * 주문 id 목록을 보관 테이블로 복사 (orders -> orders_archive)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive " +
+            "(id, customer_name, status, total_price, ordered_at, version, idempotency_key, archived_at) " +
+            "SELECT id, customer_name, status, total_price, ordered_at, version, idempotency_key, :archivedAt " +
+            "FROM orders WHERE id IN :ids", nativeQuery = true)
+    int copyOrders(Collection<Long> ids, LocalDateTime archivedAt);
+
+    /**
+     * 주문 id 목록의 항목을 보관 테이블로 복사 (order_items -> order_items_archive)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_items_archive (id, order_id, menu_id, menu_name, menu_price, quantity) " +
+            "SELECT id, order_id, menu_id, menu_name, menu_price, quantity " +
+            "FROM order_items WHERE order_id IN :ids", nativeQuery = true)
+    int copyOrderItems(Collection<Long> ids);
+
+    /**
+     * 보관 주문 + 주문 항목 행 조회 (getOrder 보관 테이블 조회)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(ARCHIVED_ORDER_ROW + "WHERE o.id = :id ORDER BY i.id")
+    List<OrderRow> findRowsById(Long id);
+
+    /**
+     * 기간 내 보관 주문 + 주문 항목을 커서로 읽기 (내보내기용, 트랜잭션 안에서 사용 후 close 필수)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ARCHIVED_ORDER_ROW + "WHERE o.orderedAt >= :from AND o.orderedAt < :to ORDER BY o.id, i.id")
+    Stream<OrderRow> streamExportRows(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 특정 상태의 보관 주문 + 주문 항목을 커서로 읽기 (집계 초기화용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ARCHIVED_ORDER_ROW + "WHERE o.status = :status ORDER BY o.id, i.id")
+    Stream<OrderRow> streamRowsByStatus(OrderStatus status);
+
+}
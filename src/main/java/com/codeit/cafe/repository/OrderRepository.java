@@ -2,22 +2,56 @@ package com.codeit.cafe.repository;
 
 import com.codeit.cafe.domain.Order;
 import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.dto.OrderSummaryResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    String ORDER_SUMMARY = "SELECT new com.codeit.cafe.dto.OrderSummaryResponse(" +
+            "o.id, o.customerName, o.status, o.totalPrice, o.orderedAt) FROM Order o ";
+    String KEYSET_AFTER = "AND (o.orderedAt > :orderedAt OR (o.orderedAt = :orderedAt AND o.id > :id)) ";
+    String KEYSET_ORDER = "ORDER BY o.orderedAt, o.id";
+    String ORDER_ROW = "SELECT new com.codeit.cafe.dto.OrderRow(" +
+            "o.id, o.customerName, o.status, o.totalPrice, o.orderedAt, i.menu.id, i.menuName, i.menuPrice, i.quantity) " +
+            "FROM Order o LEFT JOIN o.orderItems i ";
+
+    /**
+     * 주문 상태로 주문 조회 (첫 페이지)
+     */
+    @Query(ORDER_SUMMARY + "WHERE o.status = :status " + KEYSET_ORDER)
+    List<OrderSummaryResponse> findPageByStatus(OrderStatus status, Limit limit);
+
+    /**
+     * 주문 상태로 주문 조회 ((orderedAt, id) 커서 이후 페이지)
+     */
+    @Query(ORDER_SUMMARY + "WHERE o.status = :status " + KEYSET_AFTER + KEYSET_ORDER)
+    List<OrderSummaryResponse> findPageByStatus(OrderStatus status, LocalDateTime orderedAt, Long id, Limit limit);
+
     /**
-     * 고객 이름으로 주문 조회
+     * 고객 이름으로 주문 조회 (첫 페이지)
      */
-    List<Order> findByCustomerName(String customerName);
+    @Query(ORDER_SUMMARY + "WHERE o.customerName = :customerName " + KEYSET_ORDER)
+    List<OrderSummaryResponse> findPageByCustomerName(String customerName, Limit limit);
 
     /**
-     * 주문 상태로 주문 조회
+     * 고객 이름으로 주문 조회 ((orderedAt, id) 커서 이후 페이지)
      */
-    List<Order> findByStatus(OrderStatus status);
+    @Query(ORDER_SUMMARY + "WHERE o.customerName = :customerName " + KEYSET_AFTER + KEYSET_ORDER)
+    List<OrderSummaryResponse> findPageByCustomerName(String customerName, LocalDateTime orderedAt, Long id,
+                                                      Limit limit);
 
     /**
      * 주문 항목을 포함한 주문 조회 (N+1 문제 방지)
@@ -25,4 +59,102 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id = :id")
     Order findByIdWithItems(Long id);
 
+    /**
+     * 멱등 키로 주문 조회 (응답 생성에 필요한 항목과 메뉴까지 함께 조회)
+     */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.menu WHERE o.idempotencyKey = :idempotencyKey")
+    Optional<Order> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * 멱등 키 목록으로 주문 조회 (일괄 생성에서 이미 쓰인 키를 한 번에 확인)
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.menu " +
+            "WHERE o.idempotencyKey IN :idempotencyKeys")
+    List<Order> findAllByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    /**
+     * 주문 + 주문 항목을 응답용 행으로 바로 조회 (엔티티 생성, 메뉴 프록시 없이 menu_id 컬럼 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(ORDER_ROW + "WHERE o.id = :id ORDER BY i.id")
+    List<OrderRow> findRowsById(Long id);
+
+    /**
+     * 주문 id 목록의 주문 + 주문 항목을 응답용 행으로 한 번에 조회 (주문 id, 항목 id 순)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(ORDER_ROW + "WHERE o.id IN :ids ORDER BY o.id, i.id")
+    List<OrderRow> findRowsByIdIn(Collection<Long> ids);
+
+    /**
+     * 현재 상태가 expectedStatus인 경우에만 상태 변경 (엔티티 조회 없이 한 번에 처리)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :newStatus, o.version = o.version + 1 " +
+            "WHERE o.id = :id AND o.status = :expectedStatus")
+    int updateStatusIfMatches(Long id, OrderStatus expectedStatus, OrderStatus newStatus);
+
+    /**
+     * 주문 id 목록의 현재 상태 조회
+     */
+    @Query("SELECT o.id AS id, o.status AS status FROM Order o WHERE o.id IN :ids")
+    List<OrderStatusView> findStatusesByIdIn(Collection<Long> ids);
+
+    /**
+     * 현재 상태가 expectedStatus인 주문 id를 행 잠금과 함께 조회 (트랜잭션 안에서 사용)
+     * 잠근 행은 트랜잭션이 끝날 때까지 다른 요청이 바꿀 수 없으므로 이어지는 updateStatuses가 정확히 이 주문들만 바꾼다.
+     * 상태는 enum 이름으로 넘긴다.
+     */
+    @Query(value = "SELECT id FROM orders WHERE id IN :ids AND status = :expectedStatus FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockIdsByStatus(Collection<Long> ids, String expectedStatus);
+
+    /**
+     * 주문 id 목록의 상태를 한 번에 변경 (lockIdsByStatus로 잠근 주문에만 사용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :newStatus, o.version = o.version + 1 WHERE o.id IN :ids")
+    int updateStatuses(Collection<Long> ids, OrderStatus newStatus);
+
+    /**
+     * 기간 내 주문 + 주문 항목을 커서로 읽기 (내보내기용, 트랜잭션 안에서 사용 후 close 필수)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ORDER_ROW + "WHERE o.orderedAt >= :from AND o.orderedAt < :to " +
+            "ORDER BY o.id, i.id")
+    Stream<OrderRow> streamExportRows(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 특정 상태의 주문 + 주문 항목을 커서로 읽기 (집계 초기화용, 트랜잭션 안에서 사용 후 close 필수)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ORDER_ROW + "WHERE o.status = :status ORDER BY o.id, i.id")
+    Stream<OrderRow> streamRowsByStatus(OrderStatus status);
+
+    /**
+     * 보관 대상 주문 id (종료 상태이고 before 이전에 주문된 주문, id 순)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.orderedAt < :before ORDER BY o.id")
+    List<Long> findArchivableIds(Collection<OrderStatus> statuses, LocalDateTime before, Limit limit);
+
+    /**
+     * 주문 id 목록의 주문 항목 삭제 (보관 테이블로 옮긴 뒤)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderItem i WHERE i.order.id IN :ids")
+    int deleteItemsByOrderIdIn(Collection<Long> ids);
+
+    /**
+     * 주문 id 목록의 주문 삭제 (보관 테이블로 옮긴 뒤)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Order o WHERE o.id IN :ids")
+    int deleteByIdIn(Collection<Long> ids);
+
 }
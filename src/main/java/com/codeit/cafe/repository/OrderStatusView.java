@@ -0,0 +1,14 @@
+package com.codeit.cafe.repository;
+
+import com.codeit.cafe.domain.OrderStatus;
+
+/**
+ * 주문 id와 상태만 조회하는 프로젝션
+ */
+public interface OrderStatusView {
+
+    Long getId();
+
+    OrderStatus getStatus();
+
+}
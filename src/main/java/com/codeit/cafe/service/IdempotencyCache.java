@@ -0,0 +1,159 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.dto.OrderResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키 -> 주문 응답 캐시 (크기 제한, 시간 만료)
+ * 같은 키로 동시에 들어온 요청은 먼저 등록한 요청의 결과를 함께 기다리므로 주문은 한 번만 생성된다.
+ * 생성에 실패한 키는 바로 지워서 재시도할 수 있게 한다.
+ * 캐시가 만료된 뒤의 재시도와 다른 노드로 들어온 재시도(캐시는 노드마다 따로)는 orders.idempotency_key 유니크 인덱스가 막는다.
+ */
+@Component
+public class IdempotencyCache {
+
+    // 큐에 남은 무효 노드가 살아 있는 항목 수보다 이만큼 많아지면 큐를 정리한다.
+    private static final int COMPACTION_SLACK = 64;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 등록 순서 (TTL이 같으므로 가장 앞이 가장 먼저 만료된다)
+    private final Queue<EvictionNode> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // 큐 노드 수 (실패/교체된 항목의 노드 포함)
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int maxSize;
+    private final long ttlNanos;
+
+    public IdempotencyCache(@Value("${cafe.order.idempotency.max-size:100000}") int maxSize,
+                            @Value("${cafe.order.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * 키에 해당하는 응답을 돌려주고, 없으면 creator로 생성한다. (creator의 예외는 그대로 던진다)
+     */
+    public OrderResponse getOrCreate(String key, Supplier<OrderResponse> creator) {
+        try {
+            return getOrCreateAsync(key, () -> CompletableFuture.completedFuture(creator.get())).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 키의 응답이 이미 만들어져 있으면 돌려준다. (없거나 아직 생성 중이면 기다리지 않고 null)
+     */
+    public OrderResponse getIfCompleted(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired(System.nanoTime())
+                || entry.future().state() != Future.State.SUCCESS) {
+            return null;
+        }
+        return entry.future().resultNow();
+    }
+
+    public CompletableFuture<OrderResponse> getOrCreateAsync(String key, Supplier<CompletableFuture<OrderResponse>> creator) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isExpired(now)) {
+            return entry.future();
+        }
+
+        Entry created = new Entry(new CompletableFuture<>(), now + ttlNanos);
+        boolean registered = entry == null
+                ? entries.putIfAbsent(key, created) == null
+                : entries.replace(key, entry, created);
+        if (!registered) {
+            // 다른 요청이 먼저 등록함
+            return getOrCreateAsync(key, creator);
+        }
+        if (entry == null) {
+            size.incrementAndGet();
+        }
+        evictionQueue.offer(new EvictionNode(key, created));
+        queued.incrementAndGet();
+        evict(now);
+
+        CompletableFuture<OrderResponse> result;
+        try {
+            result = creator.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((response, failure) -> {
+            if (failure != null) {
+                remove(key, created);
+                created.future().completeExceptionally(failure);
+            } else {
+                created.future().complete(response);
+            }
+        });
+        return created.future();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 만료 대기열 길이 (실패/교체된 항목의 노드 포함)
+     */
+    int queuedNodes() {
+        return queued.get();
+    }
+
+    /**
+     * 앞에서부터 만료/초과 항목과 이미 지워지거나 교체된 항목의 노드를 뺀다.
+     * 앞쪽 노드가 살아 있으면 그 뒤의 무효 노드는 남으므로, 무효 노드가 쌓이면 큐 전체를 한 번 정리한다.
+     */
+    private void evict(long now) {
+        EvictionNode head;
+        while ((head = evictionQueue.peek()) != null
+                && (!head.isCurrent(entries) || size.get() > maxSize || head.entry().isExpired(now))) {
+            if (evictionQueue.remove(head)) {
+                queued.decrementAndGet();
+                remove(head.key(), head.entry());
+            }
+        }
+        if (queued.get() > 2 * size.get() + COMPACTION_SLACK) {
+            evictionQueue.removeIf(node -> !node.isCurrent(entries));
+            // 동시 등록과 겹쳐도 다음 정리 때 다시 맞춰지는 근사치
+            queued.set(evictionQueue.size());
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            size.decrementAndGet();
+        }
+    }
+
+    private record Entry(CompletableFuture<OrderResponse> future, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private record EvictionNode(String key, Entry entry) {
+
+        boolean isCurrent(ConcurrentHashMap<String, Entry> entries) {
+            return entries.get(key) == entry;
+        }
+    }
+}
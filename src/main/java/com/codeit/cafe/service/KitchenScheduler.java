@@ -0,0 +1,443 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.KitchenTicketResponse;
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 주방 작업 대기열 (CONFIRMED, PREPARING 주문)
+ * 대기 중인 작업은 skip list에 두고, 주문 시각을 priority-window-seconds 단위 구간으로 나눠 앞 구간부터,
+ * 같은 구간 안에서는 (항목 수, 예상 조리 시간, 주문 시각, 주문 id) 순으로 가져간다.
+ * (먼저 온 주문이 오래 밀리지 않으면서, 비슷한 시각에 온 주문 중에서는 빨리 끝나는 주문부터 만든다)
+ * 바리스타 스테이션이 가져가면(claim) 리스 기간 동안 그 스테이션에 배정한다.
+ * 리스가 끝나도록 갱신하지 않으면 다시 대기열로 돌아간다.
+ * 가져가기는 O(log n)이고 DB를 읽지 않는다. 시작할 때 DB에서 한 번 채우고, 이후에는 상태 변경 이벤트로 맞춘다.
+ * 주문을 읽어 넣는 것과 빼는 것은 주문 id별 잠금으로 순서를 맞춘다. (읽는 사이 완료된 주문이 다시 들어가지 않도록)
+ * 다른 노드에서 바뀐 주문은 캐시 무효화 버스(CacheRegion.ORDER)로 받아 DB에서 다시 읽는다.
+ * 배정(claim)과 리스는 이 노드의 메모리에만 있으므로, 스테이션은 한 노드로만 요청해야 한다.
+ * (여러 노드에 나눠 보내면 같은 작업이 노드마다 한 번씩 배정될 수 있다)
+ */
+@Slf4j
+@Component
+public class KitchenScheduler {
+
+    private static final Comparator<Ticket> PRIORITY = Comparator.comparingLong(Ticket::window)
+            .thenComparingInt(Ticket::itemCount)
+            .thenComparingInt(Ticket::estimatedPrepSeconds)
+            .thenComparing(Ticket::orderedAt)
+            .thenComparingLong(Ticket::orderId);
+    // 주문 id별 잠금 stripe 수 (2의 거듭제곱)
+    private static final int LOCK_STRIPES = 64;
+    private static final Set<OrderStatus> KITCHEN_STATUSES = EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.PREPARING);
+
+    private final OrderRepository orderRepository;
+    private final MenuCatalog menuCatalog;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int defaultPrepSeconds;
+    private final long leaseMillis;
+    private final long priorityWindowSeconds;
+    private final ReentrantLock[] orderLocks = new ReentrantLock[LOCK_STRIPES];
+
+    // 주방에 있는 모든 작업 (orderId -> 작업), 대기 중이거나 배정된 작업
+    private final ConcurrentMap<Long, Ticket> tickets = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Ticket> waiting = new ConcurrentSkipListSet<>(PRIORITY);
+    private final ConcurrentMap<Long, Claim> claims = new ConcurrentHashMap<>();
+
+    // 초기화가 끝나기 전에 도착한 상태 변경 (초기화 후 null, pendingLock 으로 보호)
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private List<OrderStatusChangedEvent> pendingEvents = new ArrayList<>();
+
+    public KitchenScheduler(OrderRepository orderRepository,
+                            MenuCatalog menuCatalog,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${cafe.kitchen.default-prep-seconds:120}") int defaultPrepSeconds,
+                            @Value("${cafe.kitchen.lease-ms:300000}") long leaseMillis,
+                            @Value("${cafe.kitchen.priority-window-seconds:60}") long priorityWindowSeconds) {
+        this.orderRepository = orderRepository;
+        this.menuCatalog = menuCatalog;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.defaultPrepSeconds = defaultPrepSeconds;
+        this.leaseMillis = leaseMillis;
+        this.priorityWindowSeconds = Math.max(1, priorityWindowSeconds);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            orderLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 시작 시 CONFIRMED, PREPARING 주문으로 대기열 구성
+     * 읽는 동안에도 상태 변경 이벤트가 들어오므로, 그동안의 이벤트는 모아 두었다가 스캔이 끝난 뒤 순서대로 적용한다.
+     * (스캔에 잡힌 뒤 완료된 주문이 대기열에 남지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (OrderStatus orderStatus : KITCHEN_STATUSES) {
+                try (Stream<OrderRow> stream = orderRepository.streamRowsByStatus(orderStatus)) {
+                    forEachOrder(stream.iterator(), orderRows -> enqueue(toTicket(orderRows)));
+                }
+            }
+        });
+
+        // 모아 둔 이벤트는 잠금 밖에서 적용하고(DB를 읽는다), 그동안 들어온 이벤트는 다음 차례에 이어서 적용한다.
+        int replayed = 0;
+        List<OrderStatusChangedEvent> events;
+        while (!(events = takePendingEvents()).isEmpty()) {
+            events.forEach(this::apply);
+            replayed += events.size();
+        }
+        log.info("주방 대기열 초기화 완료: {}건, 초기화 중 상태 변경 {}건", tickets.size(), replayed);
+    }
+
+    /**
+     * 다음 작업 가져가기 (대기 중인 작업이 없으면 empty)
+     */
+    public Optional<KitchenTicketResponse> claim(String stationId) {
+        Ticket ticket;
+        while ((ticket = waiting.pollFirst()) != null) {
+            Claim claim = new Claim(stationId, System.currentTimeMillis() + leaseMillis);
+            claims.put(ticket.orderId(), claim);
+            // 가져가는 사이에 완료/취소된 주문은 건너뛴다.
+            if (tickets.containsKey(ticket.orderId())) {
+                return Optional.of(toResponse(ticket, claim));
+            }
+            claims.remove(ticket.orderId(), claim);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 리스 연장 (배정된 스테이션만 가능)
+     */
+    public KitchenTicketResponse renew(long orderId, String stationId) {
+        Claim renewed = new Claim(stationId, System.currentTimeMillis() + leaseMillis);
+        Claim claim = claims.computeIfPresent(orderId,
+                (id, current) -> current.stationId().equals(stationId) ? renewed : current);
+        if (claim != renewed) {
+            throw new IllegalStateException("이 스테이션에 배정된 주문이 아닙니다." + orderId);
+        }
+        Ticket ticket = tickets.get(orderId);
+        if (ticket == null) {
+            // 연장하는 사이에 완료/취소된 주문
+            claims.remove(orderId, renewed);
+            throw new IllegalStateException("이미 완료되었거나 취소된 주문입니다." + orderId);
+        }
+        return toResponse(ticket, claim);
+    }
+
+    /**
+     * 배정 취소 (작업을 대기열로 돌려보낸다)
+     */
+    public void release(long orderId, String stationId) {
+        Claim claim = claims.get(orderId);
+        if (claim == null || !claim.stationId().equals(stationId)) {
+            throw new IllegalStateException("이 스테이션에 배정된 주문이 아닙니다." + orderId);
+        }
+        requeue(orderId, claim);
+    }
+
+    /**
+     * 대기 중인 작업 (우선순위 순)
+     */
+    public List<KitchenTicketResponse> getWaitingTickets() {
+        return waiting.stream()
+                .map(ticket -> toResponse(ticket, null))
+                .toList();
+    }
+
+    /**
+     * 배정된 작업
+     */
+    public List<KitchenTicketResponse> getClaimedTickets() {
+        List<KitchenTicketResponse> claimed = new ArrayList<>();
+        claims.forEach((orderId, claim) -> {
+            Ticket ticket = tickets.get(orderId);
+            if (ticket != null) {
+                claimed.add(toResponse(ticket, claim));
+            }
+        });
+        return claimed;
+    }
+
+    /**
+     * 리스가 끝난 작업을 대기열로 돌려보낸다.
+     */
+    @Scheduled(fixedDelayString = "${cafe.kitchen.sweep-interval-ms:1000}")
+    public void sweepExpiredLeases() {
+        long now = System.currentTimeMillis();
+        claims.forEach((orderId, claim) -> {
+            if (claim.leaseExpiresAt() <= now) {
+                log.info("리스 만료로 작업을 대기열로 돌려보냅니다. orderId={}, stationId={}", orderId, claim.stationId());
+                requeue(orderId, claim);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드에서 바뀐 주문 반영 (메시지에는 주문 id만 있으므로 현재 상태를 DB에서 다시 읽는다)
+     */
+    public void refresh(long orderId) {
+        List<OrderRow> rows = orderRepository.findRowsById(orderId);
+        // 행이 없으면 보관된(종료된) 주문이다.
+        OrderStatus status = rows.isEmpty() ? OrderStatus.COMPLETED : rows.get(0).getStatus();
+        onOrderStatusChanged(OrderStatusChangedEvent.refreshed(orderId, status));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (!bufferIfInitializing(List.of(event))) {
+            apply(event);
+        }
+    }
+
+    /**
+     * 일괄 변경은 대기열에 새로 넣을 주문만 모아 한 번에 읽는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusesChanged(OrderStatusesChangedEvent event) {
+        if (bufferIfInitializing(event.getChanges())) {
+            return;
+        }
+        List<Long> orderIds = new ArrayList<>();
+        for (OrderStatusChangedEvent change : event.getChanges()) {
+            if (!applyInMemory(change)) {
+                orderIds.add(change.getOrderId());
+            }
+        }
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        List<ReentrantLock> locks = lockOrders(orderIds);
+        try {
+            forEachOrder(orderRepository.findRowsByIdIn(orderIds).iterator(), this::enqueueIfInKitchen);
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    /**
+     * 초기화 중이면 이벤트를 모아 두고 true
+     */
+    private boolean bufferIfInitializing(List<OrderStatusChangedEvent> events) {
+        pendingLock.lock();
+        try {
+            if (pendingEvents == null) {
+                return false;
+            }
+            pendingEvents.addAll(events);
+            return true;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * 모아 둔 이벤트를 꺼낸다. (더 없으면 초기화를 끝내고 빈 목록)
+     */
+    private List<OrderStatusChangedEvent> takePendingEvents() {
+        pendingLock.lock();
+        try {
+            List<OrderStatusChangedEvent> events = pendingEvents;
+            pendingEvents = events.isEmpty() ? null : new ArrayList<>();
+            return events;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private void apply(OrderStatusChangedEvent event) {
+        if (!applyInMemory(event)) {
+            enqueue(event.getOrderId());
+        }
+    }
+
+    /**
+     * 메모리의 작업만으로 반영한다. (DB에서 주문을 읽어 대기열에 넣어야 하면 false)
+     */
+    private boolean applyInMemory(OrderStatusChangedEvent event) {
+        Long orderId = event.getOrderId();
+        ReentrantLock lock = orderLock(orderId);
+        lock.lock();
+        try {
+            return applyInMemoryLocked(orderId, event.getStatus());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean applyInMemoryLocked(Long orderId, OrderStatus status) {
+        switch (status) {
+            case CONFIRMED -> {
+                return false;
+            }
+            case PREPARING -> {
+                Ticket ticket = tickets.get(orderId);
+                if (ticket == null) {
+                    // 다른 노드에서 확인과 조리 시작이 모두 끝난 뒤에 처음 보는 주문
+                    return false;
+                }
+                replace(ticket, ticket.withStatus(OrderStatus.PREPARING));
+            }
+            case COMPLETED, CANCELLED -> remove(orderId);
+            default -> {
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 주문을 DB에서 읽어 대기열에 넣는다. (읽고 넣는 동안 같은 주문의 완료/취소 반영을 막는다)
+     */
+    private void enqueue(Long orderId) {
+        ReentrantLock lock = orderLock(orderId);
+        lock.lock();
+        try {
+            List<OrderRow> rows = orderRepository.findRowsById(orderId);
+            if (!rows.isEmpty()) {
+                enqueueIfInKitchen(rows);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueueIfInKitchen(List<OrderRow> rows) {
+        if (KITCHEN_STATUSES.contains(rows.get(0).getStatus())) {
+            enqueue(toTicket(rows));
+        }
+    }
+
+    private void enqueue(Ticket ticket) {
+        if (tickets.putIfAbsent(ticket.orderId(), ticket) == null) {
+            waiting.add(ticket);
+        }
+    }
+
+    private void replace(Ticket current, Ticket updated) {
+        if (tickets.replace(current.orderId(), current, updated) && waiting.remove(current)) {
+            waiting.add(updated);
+        }
+    }
+
+    private void requeue(Long orderId, Claim claim) {
+        if (claims.remove(orderId, claim)) {
+            Ticket ticket = tickets.get(orderId);
+            if (ticket != null) {
+                waiting.add(ticket);
+            }
+        }
+    }
+
+    private void remove(Long orderId) {
+        Ticket ticket = tickets.remove(orderId);
+        if (ticket != null) {
+            waiting.remove(ticket);
+        }
+        claims.remove(orderId);
+    }
+
+    private ReentrantLock orderLock(long orderId) {
+        return orderLocks[Long.hashCode(orderId) & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * 주문들의 잠금을 stripe 순서로 잡는다. (같은 순서로 잡아 교착을 피한다)
+     */
+    private List<ReentrantLock> lockOrders(Collection<Long> orderIds) {
+        BitSet stripes = new BitSet(LOCK_STRIPES);
+        orderIds.forEach(orderId -> stripes.set(Long.hashCode(orderId) & (LOCK_STRIPES - 1)));
+        List<ReentrantLock> locks = new ArrayList<>(stripes.cardinality());
+        for (int stripe = stripes.nextSetBit(0); stripe >= 0; stripe = stripes.nextSetBit(stripe + 1)) {
+            orderLocks[stripe].lock();
+            locks.add(orderLocks[stripe]);
+        }
+        return locks;
+    }
+
+    private Ticket toTicket(List<OrderRow> rows) {
+        OrderRow first = rows.get(0);
+        Set<Long> menuIds = new HashSet<>();
+        for (OrderRow row : rows) {
+            if (row.getMenuId() != null) {
+                menuIds.add(row.getMenuId());
+            }
+        }
+        Map<Long, Menu> menus = menuCatalog.findAllById(menuIds);
+
+        int itemCount = 0;
+        int prepSeconds = 0;
+        for (OrderRow row : rows) {
+            if (row.getMenuId() == null) {
+                continue;
+            }
+            Menu menu = menus.get(row.getMenuId());
+            int menuPrepSeconds = menu != null && menu.getPrepSeconds() != null ? menu.getPrepSeconds() : defaultPrepSeconds;
+            itemCount += row.getQuantity();
+            prepSeconds += menuPrepSeconds * row.getQuantity();
+        }
+        long window = Math.floorDiv(first.getOrderedAt().toEpochSecond(ZoneOffset.UTC), priorityWindowSeconds);
+        return new Ticket(first.getOrderId(), first.getStatus(), first.getOrderedAt(), window, itemCount, prepSeconds);
+    }
+
+    /**
+     * 주문 id 순으로 정렬된 행을 주문 단위로 묶어 넘긴다.
+     */
+    private static void forEachOrder(Iterator<OrderRow> rows, Consumer<List<OrderRow>> action) {
+        List<OrderRow> orderRows = new ArrayList<>();
+        while (rows.hasNext()) {
+            OrderRow row = rows.next();
+            if (!orderRows.isEmpty() && !orderRows.get(0).getOrderId().equals(row.getOrderId())) {
+                action.accept(orderRows);
+                orderRows = new ArrayList<>();
+            }
+            orderRows.add(row);
+        }
+        if (!orderRows.isEmpty()) {
+            action.accept(orderRows);
+        }
+    }
+
+    private static KitchenTicketResponse toResponse(Ticket ticket, Claim claim) {
+        return new KitchenTicketResponse(ticket.orderId(), ticket.status(), ticket.orderedAt(), ticket.itemCount(),
+                ticket.estimatedPrepSeconds(),
+                claim != null ? claim.stationId() : null,
+                claim != null ? LocalDateTime.ofInstant(Instant.ofEpochMilli(claim.leaseExpiresAt()), ZoneId.systemDefault()) : null);
+    }
+
+    private record Ticket(long orderId, OrderStatus status, LocalDateTime orderedAt, long window, int itemCount,
+                          int estimatedPrepSeconds) {
+
+        Ticket withStatus(OrderStatus status) {
+            return new Ticket(orderId, status, orderedAt, window, itemCount, estimatedPrepSeconds);
+        }
+    }
+
+    private record Claim(String stationId, long leaseExpiresAt) {
+    }
+}
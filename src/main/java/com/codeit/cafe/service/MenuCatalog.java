@@ -0,0 +1,292 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.event.MenuChangedEvent;
+import com.codeit.cafe.repository.MenuRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메뉴 카탈로그 (MenuRepository 앞단의 읽기 전용 캐시)
+ * 전체 메뉴의 불변 스냅샷을 메모리에 두고, 메뉴가 변경되면 스냅샷을 통째로 교체한다.
+ * 스냅샷에 없는 메뉴(새로 추가된 메뉴)는 그 메뉴만 읽어 스냅샷에 더하고,
+ * DB에도 없는 메뉴 id는 unknown-ttl-ms 동안 기억해서 같은 id로 반복해 DB를 읽지 않는다.
+ */
+@Component
+public class MenuCatalog {
+
+    // 기억하는 없는 메뉴 id 최대 개수 (넘으면 비운다)
+    static final int MAX_UNKNOWN_IDS = 10_000;
+
+    private final MenuRepository menuRepository;
+    private final StockReservationEngine stockReservationEngine;
+    private final long unknownTtlNanos;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    private volatile Snapshot snapshot;
+    // DB에 없던 메뉴 id -> 다시 읽어도 되는 시각 (System.nanoTime)
+    private final ConcurrentMap<Long, Long> unknownIds = new ConcurrentHashMap<>();
+
+    public MenuCatalog(MenuRepository menuRepository,
+                       StockReservationEngine stockReservationEngine,
+                       @Value("${cafe.menu.catalog.unknown-ttl-ms:5000}") long unknownTtlMillis) {
+        this.menuRepository = menuRepository;
+        this.stockReservationEngine = stockReservationEngine;
+        this.unknownTtlNanos = TimeUnit.MILLISECONDS.toNanos(unknownTtlMillis);
+    }
+
+    /**
+     * 판매 가능한 메뉴 조회
+     */
+    public Menu getAvailableMenu(long menuId) {
+        Menu menu = current().get(menuId);
+        if (menu != null) {
+            hits.increment();
+        } else {
+            menu = findAllById(List.of(menuId)).get(menuId);
+        }
+        if (menu == null) {
+            throw new IllegalArgumentException("존재하지 않는 메뉴입니다." + menuId);
+        }
+        if (!menu.getAvailable()) {
+            throw new IllegalStateException("주문할 수 없는 메뉴입니다." + menu.getName());
+        }
+        return menu;
+    }
+
+    /**
+     * 메뉴 id 목록으로 메뉴 조회 (id -> 메뉴, 없는 메뉴는 빠진다)
+     * 모두 스냅샷에 있으면 새 Map을 만들지 않고 스냅샷의 Map을 그대로 돌려준다. (요청하지 않은 메뉴도 들어 있다)
+     * 스냅샷에 없는 메뉴만 한 번의 쿼리로 읽어 스냅샷에 더한다.
+     */
+    public Map<Long, Menu> findAllById(Collection<Long> menuIds) {
+        Snapshot current = current();
+        List<Long> missingIds = null;
+        for (Long menuId : menuIds) {
+            if (current.get(menuId) == null) {
+                if (missingIds == null) {
+                    missingIds = new ArrayList<>();
+                }
+                missingIds.add(menuId);
+            }
+        }
+        if (missingIds == null) {
+            hits.add(menuIds.size());
+            return current.byId;
+        }
+        hits.add(menuIds.size() - missingIds.size());
+        misses.add(missingIds.size());
+
+        Map<Long, Menu> menus = new HashMap<>();
+        for (Long menuId : menuIds) {
+            Menu menu = current.get(menuId);
+            if (menu != null) {
+                menus.put(menuId, menu);
+            }
+        }
+        for (Menu menu : load(missingIds)) {
+            menus.put(menu.getId(), menu);
+        }
+        return menus;
+    }
+
+    /**
+     * 판매 가능한 메뉴 조회 (MenuRepository.findByAvailableTrue 대체, 재고가 0인 메뉴는 제외)
+     */
+    public List<Menu> findAvailableMenus() {
+        return current().availableMenus.stream()
+                .filter(stockReservationEngine::isAvailable)
+                .toList();
+    }
+
+    /**
+     * 메뉴 전체를 다시 읽어 스냅샷 교체
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            snapshot = Snapshot.of(menuRepository.findAll());
+            unknownIds.clear();
+            reloads.increment();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        reload();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getReloadCount() {
+        return reloads.sum();
+    }
+
+    /**
+     * 스냅샷에 없는 메뉴를 읽은 횟수 (없는 메뉴 id로 건너뛴 경우는 세지 않는다)
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * 스냅샷에 없는 메뉴를 읽어 스냅샷에 더한다. (최근에 DB에도 없던 id는 읽지 않는다)
+     */
+    private List<Menu> load(List<Long> missingIds) {
+        long now = System.nanoTime();
+        List<Long> loadIds = new ArrayList<>(missingIds.size());
+        for (Long menuId : missingIds) {
+            Long retryAt = unknownIds.get(menuId);
+            if (retryAt == null || now - retryAt >= 0) {
+                loadIds.add(menuId);
+            }
+        }
+        if (loadIds.isEmpty()) {
+            return List.of();
+        }
+
+        loads.increment();
+        List<Menu> loaded = menuRepository.findAllById(loadIds);
+        Set<Long> loadedIds = new HashSet<>();
+        loaded.forEach(menu -> loadedIds.add(menu.getId()));
+        if (unknownIds.size() + loadIds.size() > MAX_UNKNOWN_IDS) {
+            unknownIds.clear();
+        }
+        for (Long menuId : loadIds) {
+            if (loadedIds.contains(menuId)) {
+                unknownIds.remove(menuId);
+            } else {
+                unknownIds.put(menuId, now + unknownTtlNanos);
+            }
+        }
+        if (!loaded.isEmpty()) {
+            merge(loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 읽어 온 메뉴를 더한 새 스냅샷으로 교체
+     * 그 사이 다시 적재된 스냅샷에 이미 있는 메뉴는 그쪽이 더 새로우므로 덮어쓰지 않는다.
+     */
+    private void merge(List<Menu> loaded) {
+        reloadLock.lock();
+        try {
+            Snapshot current = snapshot;
+            List<Menu> menus = new ArrayList<>(current.byId.values());
+            for (Menu menu : loaded) {
+                if (current.get(menu.getId()) == null) {
+                    menus.add(menu);
+                }
+            }
+            if (menus.size() > current.byId.size()) {
+                snapshot = Snapshot.of(menus);
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        reloadLock.lock();
+        try {
+            if (snapshot == null) {
+                reload();
+            }
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 메뉴 id(long)를 키로 하는 불변 오픈 어드레싱 해시 테이블
+     * 조회 시 박싱이 일어나지 않는다.
+     */
+    private static final class Snapshot {
+
+        private final long[] keys;
+        private final Menu[] values;
+        private final int mask;
+        private final List<Menu> availableMenus;
+        private final Map<Long, Menu> byId;
+
+        private Snapshot(long[] keys, Menu[] values, List<Menu> availableMenus, Map<Long, Menu> byId) {
+            this.keys = keys;
+            this.values = values;
+            this.mask = keys.length - 1;
+            this.availableMenus = availableMenus;
+            this.byId = byId;
+        }
+
+        static Snapshot of(List<Menu> menus) {
+            int capacity = Integer.highestOneBit(Math.max(2, menus.size() * 2 - 1)) << 1;
+            long[] keys = new long[capacity];
+            Menu[] values = new Menu[capacity];
+            List<Menu> availableMenus = new ArrayList<>();
+            Map<Long, Menu> byId = HashMap.newHashMap(menus.size());
+            for (Menu menu : menus) {
+                byId.put(menu.getId(), menu);
+                int index = indexOf(menu.getId(), capacity - 1);
+                while (values[index] != null) {
+                    index = (index + 1) & (capacity - 1);
+                }
+                keys[index] = menu.getId();
+                values[index] = menu;
+                if (menu.getAvailable()) {
+                    availableMenus.add(menu);
+                }
+            }
+            return new Snapshot(keys, values, List.copyOf(availableMenus), Collections.unmodifiableMap(byId));
+        }
+
+        Menu get(long menuId) {
+            int index = indexOf(menuId, mask);
+            Menu menu;
+            while ((menu = values[index]) != null) {
+                if (keys[index] == menuId) {
+                    return menu;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int indexOf(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
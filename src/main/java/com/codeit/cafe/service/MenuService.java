@@ -0,0 +1,56 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.event.MenuChangedEvent;
+import com.codeit.cafe.event.MenuStockChangedEvent;
+import com.codeit.cafe.repository.MenuRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class MenuService {
+
+    private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Menu updateAvailability(long menuId, boolean available) {
+        Menu menu = getMenu(menuId);
+        menu.updateAvailability(available);
+        // 커밋 이후 MenuCatalog 스냅샷이 교체된다.
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
+        return menu;
+    }
+
+    @Transactional
+    public Menu updatePrice(long menuId, int price) {
+        Menu menu = getMenu(menuId);
+        menu.updatePrice(price);
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
+        return menu;
+    }
+
+    /**
+     * 재고 변경 (null이면 무제한, 새 값이 전체 남은 재고이며 커밋 이후 각 노드가 가져간 재고는 버려진다)
+     */
+    @Transactional
+    public Menu updateStock(long menuId, Integer stock) {
+        if (stock != null && stock < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다." + stock);
+        }
+        Menu menu = getMenu(menuId);
+        menu.updateStock(stock);
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
+        // 가져간 재고는 재고가 바뀔 때만 버린다. (판매 여부/가격 변경과는 상관없다)
+        eventPublisher.publishEvent(new MenuStockChangedEvent(menuId));
+        return menu;
+    }
+
+    private Menu getMenu(long menuId) {
+        return menuRepository.findById(menuId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 메뉴입니다." + menuId));
+    }
+}
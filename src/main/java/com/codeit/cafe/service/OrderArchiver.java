@@ -0,0 +1,127 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.repository.OrderArchiveRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 오래된 종료 주문(COMPLETED, CANCELLED)을 보관 테이블로 옮긴다.
+ * 한 번에 chunk-size 건씩 (복사 -> 삭제)를 한 트랜잭션으로 처리하므로 잠금과 트랜잭션 크기가 일정하다.
+ * 한 번 실행할 때 max-chunks-per-run 만큼만 옮기고 나머지는 다음 실행에서 이어서 처리한다.
+ * orders 와 보관 테이블을 이어서 읽는 쪽(내보내기, 판매 집계 초기화)은 streamHotThenArchived 로 읽는다.
+ * READ_COMMITTED 에서는 두 쿼리 사이에 chunk 가 옮겨지면 같은 주문을 두 번 읽거나 놓치므로,
+ * 읽는 동안에는 보관 실행을 건너뛴다. (잠금은 노드 로컬이므로 보관은 한 노드에서만 실행한다)
+ */
+@Slf4j
+@Component
+public class OrderArchiver {
+
+    private static final Set<OrderStatus> TERMINAL_STATUSES = EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int minAgeDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    // 쓰기: 보관 실행, 읽기: orders + 보관 테이블을 이어 읽는 스트림
+    private final ReentrantReadWriteLock moveLock = new ReentrantReadWriteLock();
+
+    public OrderArchiver(OrderRepository orderRepository,
+                         OrderArchiveRepository orderArchiveRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${cafe.archive.enabled:true}") boolean enabled,
+                         @Value("${cafe.archive.min-age-days:30}") int minAgeDays,
+                         @Value("${cafe.archive.chunk-size:500}") int chunkSize,
+                         @Value("${cafe.archive.max-chunks-per-run:20}") int maxChunksPerRun) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minAgeDays = minAgeDays;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(cron = "${cafe.archive.cron:0 */10 * * * *}")
+    public void archiveScheduled() {
+        if (enabled) {
+            archive(LocalDateTime.now().minusDays(minAgeDays));
+        }
+    }
+
+    /**
+     * before 이전에 주문된 종료 주문을 보관 테이블로 옮긴다. (이미 실행 중이거나 이어 읽는 중이면 건너뛴다)
+     *
+     * @return 옮긴 주문 수
+     */
+    public int archive(LocalDateTime before) {
+        Lock writeLock = moveLock.writeLock();
+        if (!writeLock.tryLock()) {
+            return 0;
+        }
+        try {
+            int archived = 0;
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int moved = archiveChunk(before);
+                archived += moved;
+                if (moved < chunkSize) {
+                    break;
+                }
+            }
+            if (archived > 0) {
+                log.info("주문 보관 완료: {}건 (기준 {})", archived, before);
+            }
+            return archived;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * orders 쪽 스트림 뒤에 보관 테이블 스트림을 이어 붙인다. 스트림을 닫을 때까지 보관 실행은 건너뛴다.
+     * 스트림은 연 스레드에서 닫아야 한다. (try-with-resources)
+     */
+    public <T> Stream<T> streamHotThenArchived(Supplier<Stream<T>> hot, Supplier<Stream<T>> archived) {
+        Lock readLock = moveLock.readLock();
+        readLock.lock();
+        try {
+            return Stream.concat(hot.get(), archived.get()).onClose(readLock::unlock);
+        } catch (RuntimeException e) {
+            readLock.unlock();
+            throw e;
+        }
+    }
+
+    private int archiveChunk(LocalDateTime before) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> orderIds = orderRepository.findArchivableIds(TERMINAL_STATUSES, before, Limit.of(chunkSize));
+            if (orderIds.isEmpty()) {
+                return 0;
+            }
+            orderArchiveRepository.copyOrders(orderIds, LocalDateTime.now());
+            orderArchiveRepository.copyOrderItems(orderIds);
+            orderRepository.deleteItemsByOrderIdIn(orderIds);
+            return orderRepository.deleteByIdIn(orderIds);
+        });
+        return moved != null ? moved : 0;
+    }
+}
@@ -0,0 +1,183 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.repository.OrderArchiveRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+/**
+ * 주문 내보내기 (정산용)
+ * 주문과 주문 항목을 커서로 한 행씩 읽어 바로 출력하므로 기간이 길어도 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final String CSV_HEADER =
+            "order_id,customer_name,status,total_price,ordered_at,menu_id,menu_name,menu_price,quantity,subtotal\n";
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderArchiver orderArchiver;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV,     // 주문 항목 1건당 1행
+        NDJSON   // 주문 1건당 1줄 (OrderResponse와 같은 구조)
+    }
+
+    /**
+     * 출력 스트림(HTTP 응답 등)으로 내보내기
+     * @return 내보낸 행 수 (CSV는 주문 항목 수, NDJSON은 주문 수)
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        try (Stream<OrderRow> rows = streamExportRows(from, to)) {
+            return switch (format) {
+                case CSV -> writeCsv(rows.iterator(), out);
+                case NDJSON -> writeNdjson(rows.iterator(), out);
+            };
+        }
+    }
+
+    /**
+     * 파일로 내보내기
+     */
+    @Transactional(readOnly = true)
+    public long exportToFile(Format format, LocalDateTime from, LocalDateTime to, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Stream<OrderRow> rows = streamExportRows(from, to)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            return switch (format) {
+                case CSV -> writeCsv(rows.iterator(), out);
+                case NDJSON -> writeNdjson(rows.iterator(), out);
+            };
+        }
+    }
+
+    /**
+     * orders + 보관 테이블 (주문 하나의 행은 한쪽에만 있으므로 이어 붙여도 주문별로 연속된다)
+     * 읽는 동안 보관이 chunk 를 옮기면 중복/누락되므로 OrderArchiver 와 순서를 맞춰 읽는다.
+     */
+    private Stream<OrderRow> streamExportRows(LocalDateTime from, LocalDateTime to) {
+        return orderArchiver.streamHotThenArchived(
+                () -> orderRepository.streamExportRows(from, to),
+                () -> orderArchiveRepository.streamExportRows(from, to));
+    }
+
+    private long writeCsv(Iterator<OrderRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            OrderRow row = rows.next();
+            writer.write(String.valueOf(row.getOrderId()));
+            writer.write(',');
+            writer.write(csv(row.getCustomerName()));
+            writer.write(',');
+            writer.write(row.getStatus().name());
+            writer.write(',');
+            writer.write(String.valueOf(row.getTotalPrice()));
+            writer.write(',');
+            writer.write(ISO_LOCAL_DATE_TIME.format(row.getOrderedAt()));
+            writer.write(',');
+            if (row.getMenuId() != null) {
+                writer.write(String.valueOf(row.getMenuId()));
+                writer.write(',');
+                writer.write(csv(row.getMenuName()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getMenuPrice()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getQuantity()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getMenuPrice() * row.getQuantity()));
+            } else {
+                writer.write(",,,,");
+            }
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<OrderRow> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        // 행은 주문 id 순으로 정렬되어 있으므로 같은 주문의 항목을 이어서 쓴다.
+        long count = 0;
+        Long currentOrderId = null;
+        while (rows.hasNext()) {
+            OrderRow row = rows.next();
+            if (!row.getOrderId().equals(currentOrderId)) {
+                if (currentOrderId != null) {
+                    endOrder(generator);
+                }
+                startOrder(generator, row);
+                currentOrderId = row.getOrderId();
+                count++;
+            }
+            if (row.getMenuId() != null) {
+                generator.writeStartObject();
+                generator.writeNumberField("menuId", row.getMenuId());
+                generator.writeStringField("menuName", row.getMenuName());
+                generator.writeNumberField("menuPrice", row.getMenuPrice());
+                generator.writeNumberField("quantity", row.getQuantity());
+                generator.writeNumberField("subtotal", row.getMenuPrice() * row.getQuantity());
+                generator.writeEndObject();
+            }
+        }
+        if (currentOrderId != null) {
+            endOrder(generator);
+        }
+        generator.close();
+        return count;
+    }
+
+    private void startOrder(JsonGenerator generator, OrderRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getOrderId());
+        generator.writeStringField("customerName", row.getCustomerName());
+        generator.writeStringField("status", row.getStatus().name());
+        generator.writeNumberField("totalPrice", row.getTotalPrice());
+        generator.writeStringField("orderedAt", ISO_LOCAL_DATE_TIME.format(row.getOrderedAt()));
+        generator.writeArrayFieldStart("orderItems");
+    }
+
+    private void endOrder(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * RFC 4180 필드 (구분자, 따옴표, 줄바꿈(CR, LF)이 있으면 따옴표로 감싼다)
+     */
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
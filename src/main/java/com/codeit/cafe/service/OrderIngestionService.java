@@ -0,0 +1,196 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderCreateResult;
+import com.codeit.cafe.dto.OrderResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 주문 접수 파이프라인 (write-behind, group commit)
+ * 검증을 통과한 주문을 대기열에 넣고, 단일 writer가 크기 또는 시간 기준으로 묶어서 한 트랜잭션에 커밋한다.
+ * 호출자는 자신의 주문이 포함된 그룹이 커밋되면 완료되는 CompletableFuture를 받는다.
+ * 대기열이 가득 차면 offer-timeout 동안 기다린 뒤 RejectedExecutionException으로 거절한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "cafe.order.ingestion.enabled", havingValue = "true")
+public class OrderIngestionService implements SmartLifecycle {
+
+    private final OrderService orderService;
+    private final IdempotencyCache idempotencyCache;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long offerTimeoutMillis;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderIngestionService(OrderService orderService,
+                                 IdempotencyCache idempotencyCache,
+                                 @Value("${cafe.order.ingestion.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${cafe.order.ingestion.max-batch-size:200}") int maxBatchSize,
+                                 @Value("${cafe.order.ingestion.max-delay-ms:5}") long maxDelayMillis,
+                                 @Value("${cafe.order.ingestion.offer-timeout-ms:100}") long offerTimeoutMillis) {
+        this.orderService = orderService;
+        this.idempotencyCache = idempotencyCache;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    /**
+     * 주문 접수 (검증 실패는 createOrder와 같은 예외로 즉시 던진다)
+     * 멱등 키가 있으면 같은 키의 이전 접수 결과를 돌려준다.
+     */
+    public CompletableFuture<OrderResponse> submit(OrderCreateRequest request) {
+        String idempotencyKey = request.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            return enqueue(request);
+        }
+        return idempotencyCache.getOrCreateAsync(idempotencyKey, () -> enqueue(request));
+    }
+
+    private CompletableFuture<OrderResponse> enqueue(OrderCreateRequest request) {
+        orderService.validateOrder(request);
+
+        if (!running) {
+            throw new RejectedExecutionException("주문 접수가 중지되었습니다.");
+        }
+        PendingOrder pendingOrder = new PendingOrder(request, new CompletableFuture<>());
+        try {
+            if (!queue.offer(pendingOrder, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("주문 접수 대기열이 가득 찼습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("주문 접수 중 인터럽트되었습니다.", e);
+        }
+        // 넣는 사이에 writer가 (대기열이 빈 것을 보고) 종료되었을 수 있다.
+        // writer는 running=false를 본 뒤에 대기열을 확인하므로, 여기서 running이 true면 writer가 처리한다.
+        if (!running && queue.remove(pendingOrder)) {
+            throw new RejectedExecutionException("주문 접수가 중지되었습니다.");
+        }
+        return pendingOrder.future();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "order-ingestion-writer");
+        writer.start();
+    }
+
+    /**
+     * 접수를 멈추고 대기열에 남은 주문을 모두 커밋한 뒤 종료
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // writer가 인터럽트로 먼저 끝난 경우 남은 주문
+        failPending(new RejectedExecutionException("주문 접수가 중지되었습니다."));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeLoop() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(maxDelayNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 그룹 크기 또는 최대 대기 시간까지 모은다.
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                batch.forEach(pendingOrder -> pendingOrder.future().completeExceptionally(e));
+                failPending(e);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 대기열에 남은 주문을 모두 실패로 완료 (커밋되지 않은 주문의 future가 끝나지 않는 일이 없도록)
+     */
+    private void failPending(Throwable cause) {
+        PendingOrder pendingOrder;
+        while ((pendingOrder = queue.poll()) != null) {
+            pendingOrder.future().completeExceptionally(cause);
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        List<OrderCreateRequest> requests = batch.stream()
+                .map(PendingOrder::request)
+                .toList();
+        try {
+            List<OrderCreateResult> results = orderService.createOrders(requests);
+            for (int i = 0; i < batch.size(); i++) {
+                OrderCreateResult result = results.get(i);
+                if (result.isSuccess()) {
+                    batch.get(i).future().complete(result.getOrder());
+                } else {
+                    // 접수 이후 메뉴가 판매 중지된 경우 등 (원래 예외로 끝내서 400/409 구분을 유지한다)
+                    batch.get(i).future().completeExceptionally(result.getError());
+                }
+            }
+        } catch (RuntimeException e) {
+            // 그룹 커밋이 실패하면 주문별로 다시 커밋해서 실패를 해당 주문에만 돌려준다.
+            // (멱등 키 중복도 여기서 기존 주문으로 풀린다)
+            log.warn("그룹 커밋 실패, 개별 커밋으로 재시도합니다. size={}", batch.size(), e);
+            for (PendingOrder pendingOrder : batch) {
+                try {
+                    pendingOrder.future().complete(orderService.saveOrder(pendingOrder.request()));
+                } catch (RuntimeException ex) {
+                    pendingOrder.future().completeExceptionally(ex);
+                }
+            }
+        }
+    }
+
+    private record PendingOrder(OrderCreateRequest request, CompletableFuture<OrderResponse> future) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.codec.OrderResponseCodec;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * getOrder 응답 캐시 (주문 id -> OrderResponseCodec으로 직렬화한 응답, LRU)
+ * 상태 변경이 커밋된 뒤(OrderStatusChangedEvent) 해당 주문을 지운다.
+ * 조회와 무효화가 겹칠 때 오래된 응답이 다시 들어가지 않도록, 조회 전에 받은 stamp가
+ * 그 사이 무효화로 바뀌었으면 put을 버린다. (stamp는 주문 id로 나눈 stripe별 세대 번호)
+ * COMPLETED, CANCELLED 주문은 더 바뀌지 않으므로 더 오래 보관한다.
+ */
+@Component
+public class OrderResponseCache {
+
+    private static final int STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long terminalTtlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public OrderResponseCache(MeterRegistry meterRegistry,
+                              @Value("${cafe.order.cache.max-size:10000}") int maxSize,
+                              @Value("${cafe.order.cache.ttl-seconds:30}") long ttlSeconds,
+                              @Value("${cafe.order.cache.terminal-ttl-seconds:3600}") long terminalTtlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.terminalTtlNanos = TimeUnit.SECONDS.toNanos(terminalTtlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > OrderResponseCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        FunctionCounter.builder("cafe.order.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cafe.order.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cafe.order.cache.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("cafe.order.cache.invalidations", invalidations, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("cafe.order.cache.hit.ratio", this, OrderResponseCache::getHitRatio).register(meterRegistry);
+        Gauge.builder("cafe.order.cache.size", this, OrderResponseCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public OrderResponse get(long orderId) {
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(orderId);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                entries.remove(orderId);
+                entry = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return OrderResponseCodec.decode(entry.bytes());
+    }
+
+    /**
+     * DB 조회 전에 받아 두고 put 할 때 넘긴다.
+     */
+    public long stamp(long orderId) {
+        return generations.get(stripe(orderId));
+    }
+
+    /**
+     * 조회한 응답 저장 (stamp 이후 이 주문이 속한 stripe가 무효화되었으면 저장하지 않는다)
+     */
+    public void put(long orderId, OrderResponse response, long stamp) {
+        byte[] bytes = OrderResponseCodec.encode(response);
+        long ttl = isTerminal(response.getStatus()) ? terminalTtlNanos : ttlNanos;
+        Entry entry = new Entry(bytes, System.nanoTime() + ttl);
+
+        lock.lock();
+        try {
+            // 무효화도 같은 락 안에서 세대를 올리므로 검사와 저장 사이에 끼어들 수 없다.
+            if (generations.get(stripe(orderId)) == stamp) {
+                entries.put(orderId, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(long orderId) {
+        lock.lock();
+        try {
+            generations.incrementAndGet(stripe(orderId));
+            entries.remove(orderId);
+        } finally {
+            lock.unlock();
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * 커밋된 상태 변경만 반영 (롤백된 변경은 이벤트가 오지 않는다)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        invalidate(event.getOrderId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusesChanged(OrderStatusesChangedEvent event) {
+        event.getChanges().forEach(this::onOrderStatusChanged);
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private static int stripe(long orderId) {
+        return (int) (orderId ^ (orderId >>> 32)) & (STRIPES - 1);
+    }
+
+    private static boolean isTerminal(OrderStatus status) {
+        return status == OrderStatus.COMPLETED || status == OrderStatus.CANCELLED;
+    }
+
+    private record Entry(byte[] bytes, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -3,77 +3,438 @@ package com.codeit.cafe.service;
 import com.codeit.cafe.domain.Menu;
 import com.codeit.cafe.domain.Order;
 import com.codeit.cafe.domain.OrderItem;
+import com.codeit.cafe.domain.OrderLine;
 import com.codeit.cafe.domain.OrderStatus;
 import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderCreateResult;
 import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderPageResponse;
 import com.codeit.cafe.dto.OrderResponse;
-import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.dto.OrderStatusUpdateResult;
+import com.codeit.cafe.dto.OrderStatusUpdateResult.Outcome;
+import com.codeit.cafe.dto.OrderSummaryResponse;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.OrderArchiveRepository;
 import com.codeit.cafe.repository.OrderRepository;
-import lombok.RequiredArgsConstructor;
+import com.codeit.cafe.repository.OrderStatusView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
+@Timed(value = "cafe.order.service", percentiles = {0.5, 0.95, 0.99}, histogram = true)
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final MenuRepository menuRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final MenuCatalog menuCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IdempotencyCache idempotencyCache;
+    private final StockReservationEngine stockReservationEngine;
+    private final OrderResponseCache orderResponseCache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrderService(OrderRepository orderRepository,
+                        OrderArchiveRepository orderArchiveRepository,
+                        MenuCatalog menuCatalog,
+                        ApplicationEventPublisher eventPublisher,
+                        IdempotencyCache idempotencyCache,
+                        StockReservationEngine stockReservationEngine,
+                        OrderResponseCache orderResponseCache,
+                        PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.menuCatalog = menuCatalog;
+        this.eventPublisher = eventPublisher;
+        this.idempotencyCache = idempotencyCache;
+        this.stockReservationEngine = stockReservationEngine;
+        this.orderResponseCache = orderResponseCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
+    /**
+     * 주문 생성
+     * 멱등 키가 있으면 같은 키의 이전 응답을 그대로 돌려준다. (동시 재시도도 주문은 하나만 생성)
+     */
     public OrderResponse createOrder(OrderCreateRequest request) {
+        String idempotencyKey = request.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            return saveOrder(request);
+        }
+        return idempotencyCache.getOrCreate(idempotencyKey, () -> saveOrder(request));
+    }
+
+    /**
+     * 멱등 캐시를 거치지 않는 주문 생성
+     * 캐시에서 사라진 키로 다시 들어오면 유니크 인덱스 위반으로 감지하고 기존 주문을 돌려준다.
+     */
+    public OrderResponse saveOrder(OrderCreateRequest request) {
         // 1. 주문 생성
+        Order order = buildOrder(request);
+
+        // 2. 주문 저장
+        Order saved;
+        try {
+            saved = orderRepository.save(order);
+        } catch (RuntimeException e) {
+            // 저장하지 못한 주문의 재고 예약은 되돌린다.
+            releaseStock(List.of(order));
+            if (!(e instanceof DataIntegrityViolationException) || request.getIdempotencyKey() == null) {
+                throw e;
+            }
+            return orderRepository.findByIdempotencyKey(request.getIdempotencyKey())
+                    .map(OrderResponse::from)
+                    .orElseThrow(() -> e);
+        }
+        eventPublisher.publishEvent(OrderStatusChangedEvent.created(saved.getId()));
+
+        return OrderResponse.from(saved);
+    }
+
+    /**
+     * 주문 일괄 생성
+     * 검증에 실패한 주문은 실패 결과로 돌려주고, 나머지는 한 트랜잭션에서 배치 insert 한다.
+     * 이미 쓰인 멱등 키의 주문은 새로 만들지 않고 기존 주문을 돌려준다. (재시도한 일괄 요청이 유니크 인덱스에 걸려 전부 롤백되지 않도록)
+     * 같은 요청 안에서 키가 겹치면 처음 주문 하나만 만들고 나머지는 그 결과를 함께 돌려준다.
+     */
+    @Transactional
+    public List<OrderCreateResult> createOrders(List<OrderCreateRequest> requests) {
+        OrderCreateResult[] results = new OrderCreateResult[requests.size()];
+        List<Order> orders = new ArrayList<>(requests.size());
+        List<Integer> orderIndexes = new ArrayList<>(requests.size());
+        Map<String, OrderResponse> existingOrders = findExistingOrders(requests);
+        Map<String, Integer> indexByKey = new HashMap<>();
+        // 같은 키의 앞선 요청 결과를 따라가는 요청 (index -> 앞선 요청 index)
+        Map<Integer, Integer> sameKeyIndexes = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            String idempotencyKey = requests.get(i).getIdempotencyKey();
+            if (idempotencyKey != null) {
+                OrderResponse existing = existingOrders.get(idempotencyKey);
+                if (existing != null) {
+                    results[i] = OrderCreateResult.success(i, existing);
+                    continue;
+                }
+                Integer firstIndex = indexByKey.putIfAbsent(idempotencyKey, i);
+                if (firstIndex != null) {
+                    sameKeyIndexes.put(i, firstIndex);
+                    continue;
+                }
+            }
+            try {
+                orders.add(buildOrder(requests.get(i)));
+                orderIndexes.add(i);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                results[i] = OrderCreateResult.failure(i, e);
+            }
+        }
+
+        // 롤백되면 재고 예약을 되돌린다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseStock(orders);
+                    }
+                }
+            });
+        }
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        for (int i = 0; i < savedOrders.size(); i++) {
+            int index = orderIndexes.get(i);
+            Order saved = savedOrders.get(i);
+            eventPublisher.publishEvent(OrderStatusChangedEvent.created(saved.getId()));
+            results[index] = OrderCreateResult.success(index, OrderResponse.from(saved));
+        }
+        sameKeyIndexes.forEach((index, firstIndex) -> {
+            OrderCreateResult first = results[firstIndex];
+            results[index] = first.isSuccess()
+                    ? OrderCreateResult.success(index, first.getOrder())
+                    : OrderCreateResult.failure(index, first.getError());
+        });
+
+        return List.of(results);
+    }
+
+    /**
+     * 요청의 멱등 키 중 이미 주문이 있는 키 -> 기존 주문 응답
+     * 멱등 캐시에 완료된 응답이 있으면 쓰고, 나머지 키는 한 번에 조회한다. (키가 없으면 조회하지 않는다)
+     */
+    private Map<String, OrderResponse> findExistingOrders(List<OrderCreateRequest> requests) {
+        Map<String, OrderResponse> existingOrders = new HashMap<>();
+        Set<String> uncachedKeys = new LinkedHashSet<>();
+        for (OrderCreateRequest request : requests) {
+            String idempotencyKey = request.getIdempotencyKey();
+            if (idempotencyKey == null || existingOrders.containsKey(idempotencyKey)) {
+                continue;
+            }
+            OrderResponse cached = idempotencyCache.getIfCompleted(idempotencyKey);
+            if (cached != null) {
+                existingOrders.put(idempotencyKey, cached);
+            } else {
+                uncachedKeys.add(idempotencyKey);
+            }
+        }
+        if (!uncachedKeys.isEmpty()) {
+            for (Order order : orderRepository.findAllByIdempotencyKeyIn(uncachedKeys)) {
+                existingOrders.put(order.getIdempotencyKey(), OrderResponse.from(order));
+            }
+        }
+        return existingOrders;
+    }
+
+    /**
+     * 주문 요청 검증 (메뉴 존재, 판매 가능 여부)
+     * createOrder와 같은 예외를 던진다.
+     */
+    public void validateOrder(OrderCreateRequest request) {
+        getAvailableMenus(request.getOrderItems());
+    }
+
+    private Order buildOrder(OrderCreateRequest request) {
         Order order = Order.builder()
                 .customerName(request.getCustomerName())
+                .idempotencyKey(request.getIdempotencyKey())
                 .build();
 
-        // 2. 주문 항목 추가
+        // 주문 항목 추가 (메뉴는 MenuCatalog에서 한 번에 조회)
+        Map<Long, Menu> menus = getAvailableMenus(request.getOrderItems());
+        List<OrderLine> orderLines = new ArrayList<>(request.getOrderItems().size());
         for (OrderItemRequest itemRequest : request.getOrderItems()) {
-            Menu menu = getAvailableMenu(itemRequest.getMenuId());
-            order.addOrderItem(menu, itemRequest.getQuantity());
+            orderLines.add(OrderLine.of(menus.get(itemRequest.getMenuId()), itemRequest.getQuantity()));
         }
+        order.addOrderItems(orderLines);
 
-        // 3. 주문 저장
-        Order saved = orderRepository.save(order);
+        // 한정 수량 메뉴 재고 예약 (전부 성공하거나 전부 실패)
+        Map<Menu, Integer> quantities = new LinkedHashMap<>();
+        for (OrderLine orderLine : orderLines) {
+            quantities.merge(orderLine.getMenu(), orderLine.getQuantity(), Integer::sum);
+        }
+        stockReservationEngine.reserve(quantities);
+        return order;
+    }
 
-        return OrderResponse.from(saved);
+    private void releaseStock(List<Order> orders) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (Order order : orders) {
+            for (OrderItem orderItem : order.getOrderItems()) {
+                quantities.merge(orderItem.getMenu().getId(), orderItem.getQuantity(), Integer::sum);
+            }
+        }
+        stockReservationEngine.release(quantities);
     }
 
-    private Menu getAvailableMenu(Long menuId) {
-        Menu menu = menuRepository.findById(menuId)
-                // 커스텀 예외 클래스 사용하면 더 좋습니다.
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 메뉴입니다." + menuId));
-        if (!menu.getAvailable()) {
-            throw new IllegalStateException("주문할 수 없는 메뉴입니다." + menu.getName());
+    /**
+     * 주문 항목의 메뉴를 한 번에 조회하고 검증
+     * 존재하지 않거나 판매 불가능한 메뉴는 모아서 하나의 예외로 알려준다.
+     */
+    private Map<Long, Menu> getAvailableMenus(List<OrderItemRequest> itemRequests) {
+        Set<Long> menuIds = itemRequests.stream()
+                .map(OrderItemRequest::getMenuId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, Menu> menus = menuCatalog.findAllById(menuIds);
+
+        List<Long> missingIds = new ArrayList<>();
+        List<String> unavailableNames = new ArrayList<>();
+        for (Long menuId : menuIds) {
+            Menu menu = menus.get(menuId);
+            if (menu == null) {
+                missingIds.add(menuId);
+            } else if (!menu.getAvailable()) {
+                unavailableNames.add(menu.getName());
+            }
+        }
+
+        // 커스텀 예외 클래스 사용하면 더 좋습니다.
+        if (!missingIds.isEmpty()) {
+            String message = "존재하지 않는 메뉴입니다." + missingIds;
+            if (!unavailableNames.isEmpty()) {
+                message += " 주문할 수 없는 메뉴입니다." + unavailableNames;
+            }
+            throw new IllegalArgumentException(message);
         }
-        return menu;
+        if (!unavailableNames.isEmpty()) {
+            throw new IllegalStateException("주문할 수 없는 메뉴입니다." + unavailableNames);
+        }
+        return menus;
     }
 
+    /**
+     * 주문 조회 (엔티티 대신 응답용 행을 바로 조회)
+     * orders에 없으면 보관 테이블에서 찾는다.
+     * 캐시에 있으면 트랜잭션, 커넥션 없이 바로 돌려준다.
+     * 없으면 읽기 전용 트랜잭션 하나에서 orders 와 보관 테이블을 차례로 읽는다. (최대 SELECT 2번)
+     */
     public OrderResponse getOrder(long orderId) {
-        Order order = orderRepository.findByIdWithItems(orderId);
+        OrderResponse cached = orderResponseCache.get(orderId);
+        if (cached != null) {
+            return cached;
+        }
 
-        if (order == null) {
+        long stamp = orderResponseCache.stamp(orderId);
+        List<OrderRow> rows = readOnlyTransaction.execute(status -> {
+            List<OrderRow> found = orderRepository.findRowsById(orderId);
+            // 오래된 종료 주문은 보관 테이블에 있다.
+            return found.isEmpty() ? orderArchiveRepository.findRowsById(orderId) : found;
+        });
+
+        if (rows == null || rows.isEmpty()) {
             throw new IllegalArgumentException("주문을 찾을 수 없습니다." + orderId);
         }
 
-        return OrderResponse.from(order);
+        OrderResponse response = OrderResponse.fromRows(rows);
+        orderResponseCache.put(orderId, response, stamp);
+        return response;
+    }
+
+    /**
+     * 주문 상태별 주문 목록 조회 (키셋 페이지네이션, 커서가 없으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrdersByStatus(OrderStatus status, LocalDateTime afterOrderedAt, Long afterId,
+                                               int size) {
+        Limit limit = Limit.of(size + 1);
+        List<OrderSummaryResponse> rows = afterOrderedAt == null || afterId == null
+                ? orderRepository.findPageByStatus(status, limit)
+                : orderRepository.findPageByStatus(status, afterOrderedAt, afterId, limit);
+        return OrderPageResponse.of(rows, size);
+    }
+
+    /**
+     * 고객별 주문 목록 조회 (키셋 페이지네이션, 커서가 없으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrdersByCustomer(String customerName, LocalDateTime afterOrderedAt, Long afterId,
+                                                 int size) {
+        Limit limit = Limit.of(size + 1);
+        List<OrderSummaryResponse> rows = afterOrderedAt == null || afterId == null
+                ? orderRepository.findPageByCustomerName(customerName, limit)
+                : orderRepository.findPageByCustomerName(customerName, afterOrderedAt, afterId, limit);
+        return OrderPageResponse.of(rows, size);
     }
 
+    /**
+     * 주문 상태 변경
+     * 동시 변경으로 낙관적 락이 실패하면 잠시 기다렸다가 다시 읽어서 재시도한다.
+     */
+    @Retryable(retryFor = ConcurrencyFailureException.class, maxAttempts = 4,
+            backoff = @Backoff(delay = 10, multiplier = 2, random = true))
+    @Transactional
     public OrderResponse updateOrderStatus(long orderId, OrderStatus newStatus) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다." + orderId));
 
+        OrderStatus previousStatus = order.getStatus();
         order.updateStatus(newStatus);
         Order updated = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.changed(orderId, previousStatus, newStatus));
 
         return OrderResponse.from(updated);
     }
-}
-
-
-
 
+    /**
+     * 주문 상태 조건부 변경 (UPDATE ... WHERE id = ? AND status = ? 한 번으로 처리)
+     * @return 현재 상태가 expectedStatus여서 변경되었으면 true
+     */
+    @Transactional
+    public boolean transitionOrderStatus(long orderId, OrderStatus expectedStatus, OrderStatus newStatus) {
+        if (!expectedStatus.canTransitionTo(newStatus)) {
+            throw new IllegalStateException(
+                    String.format("주문 상태를 %s에서 %s로 변경할 수 없습니다.", expectedStatus, newStatus)
+            );
+        }
+        boolean updated = orderRepository.updateStatusIfMatches(orderId, expectedStatus, newStatus) == 1;
+        if (updated) {
+            eventPublisher.publishEvent(OrderStatusChangedEvent.changed(orderId, expectedStatus, newStatus));
+        }
+        return updated;
+    }
 
+    /**
+     * 주문 상태 일괄 변경 (주방 디스플레이)
+     * 현재 상태 조회 1회 + 이전 상태별 잠금 조회와 UPDATE 1회씩으로 처리하므로 주문 수와 상관없이 쿼리 수가 일정하다.
+     * 이전 상태가 그대로인 주문만 잠근 뒤 바꾸므로 동시 요청과 겹친 주문은 CONFLICT로 정확히 구분한다.
+     */
+    @Transactional
+    public List<OrderStatusUpdateResult> updateOrderStatuses(Collection<Long> orderIds, OrderStatus newStatus) {
+        Set<Long> ids = new LinkedHashSet<>(orderIds);
+        Map<Long, OrderStatus> currentStatuses = findStatuses(ids);
 
+        Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+        Map<OrderStatus, List<Long>> idsByCurrentStatus = new EnumMap<>(OrderStatus.class);
+        for (Long id : ids) {
+            OrderStatus currentStatus = currentStatuses.get(id);
+            if (currentStatus == null) {
+                outcomes.put(id, Outcome.NOT_FOUND);
+            } else if (!currentStatus.canTransitionTo(newStatus)) {
+                outcomes.put(id, Outcome.INVALID_TRANSITION);
+            } else {
+                outcomes.put(id, Outcome.UPDATED);
+                idsByCurrentStatus.computeIfAbsent(currentStatus, status -> new ArrayList<>()).add(id);
+            }
+        }
 
+        // 조회 이후 다른 요청이 먼저 상태를 바꾼 주문은 (같은 상태로 바꿨더라도) 이 요청이 바꾼 것이 아니다.
+        // 이벤트는 이 UPDATE가 실제로 바꾼 주문에만 발행해야 재고 반환 같은 후속 처리가 중복되지 않는다.
+        for (Map.Entry<OrderStatus, List<Long>> entry : idsByCurrentStatus.entrySet()) {
+            Set<Long> updatedIds = new HashSet<>(
+                    orderRepository.lockIdsByStatus(entry.getValue(), entry.getKey().name()));
+            if (!updatedIds.isEmpty()) {
+                orderRepository.updateStatuses(updatedIds, newStatus);
+            }
+            for (Long id : entry.getValue()) {
+                if (!updatedIds.contains(id)) {
+                    outcomes.put(id, Outcome.CONFLICT);
+                }
+            }
+        }
 
+        // 리스너가 바뀐 주문을 한 번에 읽도록 이벤트 하나로 발행한다.
+        List<OrderStatusChangedEvent> changes = new ArrayList<>();
+        outcomes.forEach((id, outcome) -> {
+            if (outcome == Outcome.UPDATED) {
+                changes.add(OrderStatusChangedEvent.changed(id, currentStatuses.get(id), newStatus));
+            }
+        });
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new OrderStatusesChangedEvent(changes));
+        }
 
+        return outcomes.entrySet().stream()
+                .map(entry -> new OrderStatusUpdateResult(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 
+    private Map<Long, OrderStatus> findStatuses(Collection<Long> orderIds) {
+        return orderRepository.findStatusesByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderStatusView::getId, OrderStatusView::getStatus));
+    }
+}
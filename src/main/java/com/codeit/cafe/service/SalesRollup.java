@@ -0,0 +1,325 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.MenuSalesResponse;
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.dto.SalesBucketResponse;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.OrderArchiveRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 메뉴별 판매 집계 (시간/일 단위, 메모리)
+ * 주문이 COMPLETED 되면 더한다. COMPLETED 는 종료 상태라 다시 빠지는 일은 없다.
+ * 조회는 구간의 버킷만 합산하므로 주문 항목 수와 상관없이 O(버킷 수)이다.
+ * 다른 노드에서 완료된 주문은 캐시 무효화 버스(CacheRegion.ORDER)로 받아 DB에서 상태를 다시 읽어 더한다.
+ * 한 주문에 대한 메시지가 여러 번(확인, 조리 시작, 완료) 올 수 있으므로 최근에 더한 주문 id를 기억해 한 번만 더한다.
+ */
+@Slf4j
+@Component
+public class SalesRollup {
+
+    private static final long SECONDS_PER_HOUR = 3600;
+    // 더한 주문 id를 기억하는 기간 (무효화 메시지가 늦게 와도 이 안에 온다, 버스 보관 기간보다 길게)
+    private static final long RECORDED_WINDOW_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderArchiver orderArchiver;
+    private final MenuCatalog menuCatalog;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int hourlyRetentionDays;
+
+    // epochHour, epochDay -> (menuId -> 집계)
+    private final ConcurrentMap<Long, ConcurrentMap<Long, SalesCounter>> hourly = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, ConcurrentMap<Long, SalesCounter>> daily = new ConcurrentHashMap<>();
+
+    // 최근에 더한 주문 id -> 더한 시각 (epoch millis)
+    private final ConcurrentMap<Long, Long> recordedOrders = new ConcurrentHashMap<>();
+
+    // 초기화가 끝나기 전에 완료된 주문 id (초기화 후 null, pendingLock 으로 보호)
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private List<Long> pendingOrderIds = new ArrayList<>();
+
+    public SalesRollup(OrderRepository orderRepository,
+                       OrderArchiveRepository orderArchiveRepository,
+                       OrderArchiver orderArchiver,
+                       MenuCatalog menuCatalog,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${cafe.sales.hourly-retention-days:35}") int hourlyRetentionDays) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.orderArchiver = orderArchiver;
+        this.menuCatalog = menuCatalog;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    /**
+     * 시작 시 완료된 주문으로 집계 초기화 (한 번만 전체를 읽는다)
+     * 읽는 동안 완료된 주문은 스캔과 이벤트 양쪽에 잡힐 수 있으므로,
+     * 그동안의 이벤트는 모아 두었다가 스캔에 포함되지 않은 주문만 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Set<Long> scannedOrderIds = new HashSet<>();
+        long now = System.currentTimeMillis();
+        LocalDateTime recent = LocalDateTime.now().minusDays(1);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // 보관된 완료 주문도 포함 (읽는 동안 보관이 옮기면 중복/누락되므로 OrderArchiver 와 순서를 맞춘다)
+            try (Stream<OrderRow> stream = orderArchiver.streamHotThenArchived(
+                    () -> orderRepository.streamRowsByStatus(OrderStatus.COMPLETED),
+                    () -> orderArchiveRepository.streamRowsByStatus(OrderStatus.COMPLETED))) {
+                Iterator<OrderRow> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    OrderRow row = iterator.next();
+                    record(row);
+                    scannedOrderIds.add(row.getOrderId());
+                    // 스캔 직전에 다른 노드에서 완료된 주문의 메시지가 뒤늦게 와도 다시 더하지 않도록
+                    if (row.getOrderedAt().isAfter(recent)) {
+                        recordedOrders.put(row.getOrderId(), now);
+                    }
+                }
+            }
+        });
+
+        // 모아 둔 주문은 잠금 밖에서 읽어 더하고, 그동안 완료된 주문은 다음 차례에 이어서 더한다.
+        int replayed = 0;
+        List<Long> pending;
+        while (!(pending = takePendingOrderIds()).isEmpty()) {
+            Set<Long> missedOrderIds = new LinkedHashSet<>(pending);
+            missedOrderIds.removeAll(scannedOrderIds);
+            applyAll(missedOrderIds);
+            replayed += missedOrderIds.size();
+        }
+        log.info("판매 집계 초기화 완료: 주문 {}건, 초기화 중 완료 {}건", scannedOrderIds.size(), replayed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getStatus() == OrderStatus.COMPLETED) {
+            submit(event.getOrderId());
+        }
+    }
+
+    /**
+     * 일괄 완료는 완료된 주문을 한 번에 읽어 더한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusesChanged(OrderStatusesChangedEvent event) {
+        List<Long> completedIds = event.getChanges().stream()
+                .filter(change -> change.getStatus() == OrderStatus.COMPLETED)
+                .map(OrderStatusChangedEvent::getOrderId)
+                .toList();
+        if (!completedIds.isEmpty() && !bufferIfInitializing(completedIds)) {
+            applyAll(completedIds);
+        }
+    }
+
+    /**
+     * 다른 노드에서 바뀐 주문 반영 (완료된 주문이면 더한다)
+     */
+    public void refresh(long orderId) {
+        submit(orderId);
+    }
+
+    /**
+     * 기간 내 판매 수량 상위 메뉴 (일 단위 버킷 합산)
+     */
+    public List<MenuSalesResponse> topSellers(LocalDate from, LocalDate to, int limit) {
+        Map<Long, long[]> totals = new HashMap<>();
+        for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+            ConcurrentMap<Long, SalesCounter> bucket = daily.get(day);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.forEach((menuId, counter) -> {
+                long[] total = totals.computeIfAbsent(menuId, id -> new long[2]);
+                total[0] += counter.quantity.sum();
+                total[1] += counter.revenue.sum();
+            });
+        }
+
+        Map<Long, Menu> menus = menuCatalog.findAllById(totals.keySet());
+        return totals.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] > 0)
+                .sorted(Comparator.comparingLong((Map.Entry<Long, long[]> entry) -> entry.getValue()[0]).reversed())
+                .limit(limit)
+                .map(entry -> new MenuSalesResponse(entry.getKey(),
+                        menus.containsKey(entry.getKey()) ? menus.get(entry.getKey()).getName() : null,
+                        entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+    }
+
+    /**
+     * 시간별 매출 ([from, to) 구간)
+     */
+    public List<SalesBucketResponse> hourlyRevenue(LocalDateTime from, LocalDateTime to) {
+        List<SalesBucketResponse> buckets = new ArrayList<>();
+        for (long hour = epochHour(from); hour < epochHour(to); hour++) {
+            buckets.add(sum(LocalDateTime.ofEpochSecond(hour * SECONDS_PER_HOUR, 0, ZoneOffset.UTC), hourly.get(hour)));
+        }
+        return buckets;
+    }
+
+    /**
+     * 일별 매출 ([from, to] 구간)
+     */
+    public List<SalesBucketResponse> dailyRevenue(LocalDate from, LocalDate to) {
+        List<SalesBucketResponse> buckets = new ArrayList<>();
+        for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+            buckets.add(sum(LocalDate.ofEpochDay(day).atStartOfDay(), daily.get(day)));
+        }
+        return buckets;
+    }
+
+    /**
+     * 보관 기간이 지난 시간 단위 버킷 정리 (일 단위 버킷은 유지)
+     */
+    @Scheduled(cron = "${cafe.sales.cleanup-cron:0 10 * * * *}")
+    public void evictExpiredHourlyBuckets() {
+        long oldestHour = epochHour(LocalDateTime.now().minusDays(hourlyRetentionDays));
+        hourly.keySet().removeIf(hour -> hour < oldestHour);
+        long oldestRecorded = System.currentTimeMillis() - RECORDED_WINDOW_MILLIS;
+        recordedOrders.values().removeIf(recordedAt -> recordedAt < oldestRecorded);
+    }
+
+    private void submit(Long orderId) {
+        if (!bufferIfInitializing(List.of(orderId))) {
+            apply(orderId);
+        }
+    }
+
+    /**
+     * 초기화 중이면 주문 id를 모아 두고 true
+     */
+    private boolean bufferIfInitializing(List<Long> orderIds) {
+        pendingLock.lock();
+        try {
+            if (pendingOrderIds == null) {
+                return false;
+            }
+            pendingOrderIds.addAll(orderIds);
+            return true;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * 모아 둔 주문 id를 꺼낸다. (더 없으면 초기화를 끝내고 빈 목록)
+     */
+    private List<Long> takePendingOrderIds() {
+        pendingLock.lock();
+        try {
+            List<Long> orderIds = pendingOrderIds;
+            pendingOrderIds = orderIds.isEmpty() ? null : new ArrayList<>();
+            return orderIds;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private void apply(Long orderId) {
+        List<OrderRow> rows = orderRepository.findRowsById(orderId);
+        if (!rows.isEmpty()) {
+            recordOrder(rows);
+        }
+    }
+
+    private void applyAll(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        // 행은 주문 id 순이므로 주문이 바뀔 때마다 더한다.
+        List<OrderRow> orderRows = new ArrayList<>();
+        for (OrderRow row : orderRepository.findRowsByIdIn(orderIds)) {
+            if (!orderRows.isEmpty() && !orderRows.get(0).getOrderId().equals(row.getOrderId())) {
+                recordOrder(orderRows);
+                orderRows.clear();
+            }
+            orderRows.add(row);
+        }
+        if (!orderRows.isEmpty()) {
+            recordOrder(orderRows);
+        }
+    }
+
+    private void recordOrder(List<OrderRow> rows) {
+        if (rows.get(0).getStatus() != OrderStatus.COMPLETED) {
+            return;
+        }
+        if (recordedOrders.putIfAbsent(rows.get(0).getOrderId(), System.currentTimeMillis()) == null) {
+            rows.forEach(this::record);
+        }
+    }
+
+    private void record(OrderRow row) {
+        if (row.getMenuId() == null) {
+            return;
+        }
+        long quantity = row.getQuantity();
+        long revenue = quantity * row.getMenuPrice();
+        counter(hourly, epochHour(row.getOrderedAt()), row.getMenuId()).add(quantity, revenue);
+        counter(daily, row.getOrderedAt().toLocalDate().toEpochDay(), row.getMenuId()).add(quantity, revenue);
+    }
+
+    private static SalesCounter counter(ConcurrentMap<Long, ConcurrentMap<Long, SalesCounter>> buckets,
+                                        long bucket, Long menuId) {
+        return buckets.computeIfAbsent(bucket, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(menuId, key -> new SalesCounter());
+    }
+
+    private static SalesBucketResponse sum(LocalDateTime bucketStart, ConcurrentMap<Long, SalesCounter> bucket) {
+        long quantity = 0;
+        long revenue = 0;
+        if (bucket != null) {
+            for (SalesCounter counter : bucket.values()) {
+                quantity += counter.quantity.sum();
+                revenue += counter.revenue.sum();
+            }
+        }
+        return new SalesBucketResponse(bucketStart, quantity, revenue);
+    }
+
+    private static long epochHour(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_HOUR);
+    }
+
+    /**
+     * 메뉴 x 버킷 하나의 집계 (동시 갱신이 많아 LongAdder 사용)
+     */
+    private static final class SalesCounter {
+
+        private final LongAdder quantity = new LongAdder();
+        private final LongAdder revenue = new LongAdder();
+
+        private void add(long quantity, long revenue) {
+            this.quantity.add(quantity);
+            this.revenue.add(revenue);
+        }
+    }
+}
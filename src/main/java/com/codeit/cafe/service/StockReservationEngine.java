@@ -0,0 +1,390 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.event.MenuStockChangedEvent;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메뉴별 재고 예약 (lock-free 카운터)
+ * 재고가 있는 메뉴(stock != null)만 관리하고, stock이 null이면 무제한이다.
+ * menus.stock 은 아직 어느 노드에도 나눠 주지 않은 재고이다. 각 노드는 여기서 lease-size 만큼씩 가져와(lease)
+ * 메모리 카운터에 두고, 주문 예약은 이 카운터에서만 CAS로 뺀다. (주문마다 메뉴 행을 잠그지 않는다)
+ * 가져올 때는 조건부 UPDATE(stock >= 수량)로 빼므로 노드가 여러 개여도 합쳐서 재고보다 많이 팔리지 않는다.
+ * DB 작업(가져오기, 남은 재고 읽기)은 전용 스레드 하나에서만 하므로, 주문 트랜잭션 안에서 예약해도
+ * 호출한 스레드가 커넥션을 두 개 잡지 않는다. 카운터가 모자라면 그 스레드에 가져오기를 맡기고 lease-wait-ms 까지 기다린다.
+ * 주문 하나의 예약은 전부 성공하거나 전부 되돌리며, 주문이 CANCELLED 되면 이 노드의 카운터로 돌려준다.
+ * 종료할 때 쓰지 않은 재고는 menus.stock 에 돌려주고, 비정상 종료로 잃은 재고는 덜 팔릴 뿐 초과 판매되지는 않는다.
+ */
+@Slf4j
+@Component
+public class StockReservationEngine {
+
+    private final MenuRepository menuRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int leaseSize;
+    private final long leaseWaitMillis;
+
+    // 메뉴 id -> 이 노드가 가져온 재고
+    private final ConcurrentHashMap<Long, StockCounter> counters = new ConcurrentHashMap<>();
+    // 메뉴 id -> 마지막으로 읽은 menus.stock (나눠 주지 않은 재고, 표시용)
+    private final ConcurrentHashMap<Long, Integer> unleased = new ConcurrentHashMap<>();
+    // 메뉴 id -> 진행 중인 가져오기 (같은 메뉴는 한 번만)
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> leaseRequests = new ConcurrentHashMap<>();
+    private final ExecutorService leaseExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StockReservationEngine(MenuRepository menuRepository,
+                                  OrderRepository orderRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${cafe.menu.stock.lease-size:20}") int leaseSize,
+                                  @Value("${cafe.menu.stock.lease-wait-ms:500}") long leaseWaitMillis) {
+        this.menuRepository = menuRepository;
+        this.orderRepository = orderRepository;
+        // 가져오기 스레드에는 바깥 트랜잭션이 없으므로 항상 짧은 새 트랜잭션이다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseSize = leaseSize;
+        this.leaseWaitMillis = leaseWaitMillis;
+    }
+
+    /**
+     * 시작 시 재고를 관리하는 메뉴의 남은 재고 읽기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        submit(this::readUnleased).join();
+        log.info("재고 예약 초기화 완료: {}개 메뉴", unleased.size());
+    }
+
+    /**
+     * 주문 수량만큼 재고 예약 (전부 성공하거나 전부 실패)
+     *
+     * @param quantities 메뉴 -> 주문 수량 (같은 메뉴는 합산해서 넘긴다)
+     * @throws IllegalStateException 재고가 부족한 메뉴가 있을 때
+     */
+    public void reserve(Map<Menu, Integer> quantities) {
+        Map<Long, Integer> limited = new TreeMap<>();
+        Map<Long, String> names = new TreeMap<>();
+        quantities.forEach((menu, quantity) -> {
+            if (menu.getStock() != null || counters.containsKey(menu.getId())) {
+                limited.put(menu.getId(), quantity);
+                names.put(menu.getId(), menu.getName());
+            }
+        });
+        if (limited.isEmpty()) {
+            return;
+        }
+
+        List<Long> shortIds = tryReserve(limited);
+        if (shortIds.isEmpty()) {
+            return;
+        }
+        awaitLeases(shortIds, limited);
+        shortIds = tryReserve(limited);
+        if (!shortIds.isEmpty()) {
+            throw new IllegalStateException("재고가 부족한 메뉴입니다." + shortIds.stream().map(names::get).toList());
+        }
+    }
+
+    /**
+     * 예약 취소 (주문 저장 실패, 주문 취소), 이 노드의 카운터로 돌려준다.
+     *
+     * @param quantities 메뉴 id -> 수량
+     */
+    public void release(Map<Long, Integer> quantities) {
+        quantities.forEach((menuId, quantity) -> {
+            // 무제한 메뉴는 카운터가 없다.
+            if (counters.containsKey(menuId) || unleased.containsKey(menuId)) {
+                counterOf(menuId).put(quantity);
+            }
+        });
+    }
+
+    /**
+     * 이 노드에서 팔 수 있는 재고 (가져온 재고 + 아직 나눠 주지 않은 재고, 관리하지 않는 메뉴는 null)
+     */
+    public Integer getRemaining(Menu menu) {
+        StockCounter counter = counters.get(menu.getId());
+        Integer free = unleased.get(menu.getId());
+        if (counter == null && free == null) {
+            return menu.getStock();
+        }
+        return (counter != null ? counter.get() : 0) + (free != null ? free : 0);
+    }
+
+    /**
+     * 판매 가능 여부 (판매 설정이 켜져 있고 재고가 0이 아님)
+     */
+    public boolean isAvailable(Menu menu) {
+        if (!menu.getAvailable()) {
+            return false;
+        }
+        Integer stock = getRemaining(menu);
+        return stock == null || stock > 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getStatus() != OrderStatus.CANCELLED) {
+            return;
+        }
+        releaseOrders(orderRepository.findRowsById(event.getOrderId()));
+    }
+
+    /**
+     * 일괄 취소는 취소된 주문의 항목을 한 번에 읽어 반환한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusesChanged(OrderStatusesChangedEvent event) {
+        List<Long> cancelledIds = event.getChanges().stream()
+                .filter(change -> change.getStatus() == OrderStatus.CANCELLED)
+                .map(OrderStatusChangedEvent::getOrderId)
+                .toList();
+        if (!cancelledIds.isEmpty()) {
+            releaseOrders(orderRepository.findRowsByIdIn(cancelledIds));
+        }
+    }
+
+    private void releaseOrders(List<OrderRow> rows) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderRow row : rows) {
+            if (row.getMenuId() != null) {
+                quantities.merge(row.getMenuId(), row.getQuantity(), Integer::sum);
+            }
+        }
+        release(quantities);
+    }
+
+    /**
+     * 관리자가 재고를 바꾸면 새 값이 전체 남은 재고이므로 이 노드가 가져온 재고는 버린다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuStockChanged(MenuStockChangedEvent event) {
+        resetCounter(event.getMenuId());
+    }
+
+    /**
+     * 가져온 재고를 버리고 남은 재고를 DB에서 다시 읽는다. (다른 노드에서 재고가 바뀐 경우에도 사용)
+     */
+    public void resetCounter(long menuId) {
+        counters.remove(menuId);
+        unleased.remove(menuId);
+        submit(() -> readUnleased(Set.of(menuId)));
+    }
+
+    /**
+     * 남은 재고를 다시 읽고, 이 노드의 카운터가 절반 아래로 내려간 메뉴는 미리 채운다.
+     */
+    @Scheduled(fixedDelayString = "${cafe.menu.stock.refresh-interval-ms:1000}")
+    public void refresh() {
+        submit(() -> {
+            readUnleased();
+            counters.forEach((menuId, counter) -> {
+                int current = counter.get();
+                if (current < leaseSize / 2 && unleased.getOrDefault(menuId, 0) > 0) {
+                    lease(menuId, leaseSize - current);
+                }
+            });
+        });
+    }
+
+    /**
+     * 종료 시 쓰지 않은 재고를 menus.stock 에 돌려준다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        leaseExecutor.shutdown();
+        leaseExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        Map<Long, Integer> leftovers = new TreeMap<>();
+        counters.forEach((menuId, counter) -> {
+            int left = counter.drain();
+            if (left > 0) {
+                leftovers.put(menuId, left);
+            }
+        });
+        if (!leftovers.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> leftovers.forEach(menuRepository::returnStock));
+            log.info("쓰지 않은 재고 반환: {}", leftovers);
+        }
+    }
+
+    /**
+     * 메뉴 id 순서로 카운터에서 빼고, 하나라도 모자라면 뺀 것을 되돌린다.
+     *
+     * @return 모자란 메뉴 id (비어 있으면 성공)
+     */
+    private List<Long> tryReserve(Map<Long, Integer> quantities) {
+        Map<Long, Integer> taken = new TreeMap<>();
+        List<Long> shortIds = new ArrayList<>();
+        quantities.forEach((menuId, quantity) -> {
+            StockCounter counter = counters.get(menuId);
+            if (counter != null && counter.tryTake(quantity)) {
+                taken.put(menuId, quantity);
+            } else {
+                shortIds.add(menuId);
+            }
+        });
+        if (!shortIds.isEmpty()) {
+            taken.forEach((menuId, quantity) -> counterOf(menuId).put(quantity));
+        }
+        return shortIds;
+    }
+
+    private void awaitLeases(List<Long> menuIds, Map<Long, Integer> quantities) {
+        CompletableFuture<?>[] requests = menuIds.stream()
+                .map(menuId -> requestLease(menuId, Math.max(quantities.get(menuId), leaseSize)))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(requests).get(leaseWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 가져오지 못하면 다시 시도한 예약이 매진으로 실패한다.
+            log.debug("재고 가져오기 대기 실패: menuIds={}, {}", menuIds, e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재고 확인 중 중단되었습니다." + menuIds, e);
+        }
+    }
+
+    private CompletableFuture<Void> requestLease(long menuId, int wanted) {
+        return leaseRequests.computeIfAbsent(menuId, id -> {
+            CompletableFuture<Void> request = new CompletableFuture<>();
+            leaseExecutor.execute(() -> {
+                RuntimeException failure = null;
+                try {
+                    lease(id, wanted);
+                } catch (RuntimeException e) {
+                    log.warn("재고 가져오기 실패: menuId={}", id, e);
+                    failure = e;
+                }
+                // 기다리던 쪽이 다시 요청하면 새 가져오기가 되도록 먼저 지운다.
+                leaseRequests.remove(id, request);
+                if (failure == null) {
+                    request.complete(null);
+                } else {
+                    request.completeExceptionally(failure);
+                }
+            });
+            return request;
+        });
+    }
+
+    /**
+     * menus.stock 에서 최대 wanted 만큼 가져온다. (가져오기 스레드에서만 호출)
+     */
+    private void lease(long menuId, int wanted) {
+        Integer taken = transactionTemplate.execute(status -> {
+            Menu menu = menuRepository.findById(menuId).orElse(null);
+            if (menu == null || menu.getStock() == null) {
+                unleased.remove(menuId);
+                return 0;
+            }
+            int amount = Math.min(wanted, menu.getStock());
+            // 읽은 뒤 다른 노드가 먼저 가져갔으면 0건이 바뀌고, 다음 요청에서 다시 읽는다.
+            if (amount > 0 && menuRepository.takeStock(menuId, amount) == 0) {
+                amount = 0;
+            }
+            unleased.put(menuId, menu.getStock() - amount);
+            return amount;
+        });
+        if (taken != null && taken > 0) {
+            counterOf(menuId).put(taken);
+        }
+    }
+
+    private void readUnleased() {
+        Set<Long> limitedIds = new HashSet<>();
+        for (Menu menu : menuRepository.findByStockIsNotNull()) {
+            limitedIds.add(menu.getId());
+            unleased.put(menu.getId(), menu.getStock());
+        }
+        unleased.keySet().retainAll(limitedIds);
+    }
+
+    private void readUnleased(Set<Long> menuIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long menuId : menuIds) {
+                Integer stock = menuRepository.findById(menuId).map(Menu::getStock).orElse(null);
+                if (stock == null) {
+                    unleased.remove(menuId);
+                } else {
+                    unleased.put(menuId, stock);
+                }
+            }
+        });
+    }
+
+    private CompletableFuture<Void> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, leaseExecutor).exceptionally(e -> {
+            log.warn("재고 작업 실패", e);
+            return null;
+        });
+    }
+
+    private StockCounter counterOf(long menuId) {
+        return counters.computeIfAbsent(menuId, id -> new StockCounter());
+    }
+
+    /**
+     * 한 메뉴의 카운터 (CAS로 빼고 더한다)
+     */
+    private static final class StockCounter {
+
+        private final AtomicInteger remaining = new AtomicInteger();
+
+        private boolean tryTake(int quantity) {
+            int current;
+            do {
+                current = remaining.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - quantity));
+            return true;
+        }
+
+        private void put(int quantity) {
+            remaining.addAndGet(quantity);
+        }
+
+        private int drain() {
+            return remaining.getAndSet(0);
+        }
+
+        private int get() {
+            return remaining.get();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+-- 초기 스키마 (prod 프로필에서 Flyway로 관리, 기본 프로필은 ddl-auto 사용)
+
+create sequence menus_seq start with 1 increment by 50;
+create sequence orders_seq start with 1 increment by 50;
+create sequence order_items_seq start with 1 increment by 50;
+
+create table menus (
+    id        bigint       not null,
+    name      varchar(255) not null,
+    price     integer      not null,
+    available boolean      not null,
+    primary key (id)
+);
+
+create table orders (
+    id              bigint       not null,
+    customer_name   varchar(255) not null,
+    status          varchar(20)  not null,
+    total_price     integer      not null,
+    ordered_at      timestamp(6) not null,
+    version         bigint,
+    idempotency_key varchar(64),
+    primary key (id),
+    constraint uk_orders_idempotency_key unique (idempotency_key)
+);
+
+create index idx_orders_status_ordered_at on orders (status, ordered_at, id);
+create index idx_orders_customer_name_ordered_at on orders (customer_name, ordered_at, id);
+create index idx_orders_ordered_at on orders (ordered_at, id);
+
+create table order_items (
+    id         bigint       not null,
+    order_id   bigint       not null,
+    menu_id    bigint       not null,
+    menu_name  varchar(255) not null,
+    menu_price integer      not null,
+    quantity   integer      not null,
+    primary key (id),
+    constraint fk_order_items_order foreign key (order_id) references orders (id),
+    constraint fk_order_items_menu foreign key (menu_id) references menus (id)
+);
+
+create index idx_order_items_order_id on order_items (order_id);
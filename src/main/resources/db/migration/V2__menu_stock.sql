@@ -0,0 +1,2 @@
+-- 한정 수량 메뉴 재고 (null이면 무제한)
+alter table menus add column stock integer;
@@ -0,0 +1,2 @@
+-- 메뉴 1개당 예상 조리 시간(초), 주방 작업 우선순위 계산용
+alter table menus add column prep_seconds integer;
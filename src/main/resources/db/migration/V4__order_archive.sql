@@ -0,0 +1,27 @@
+-- 오래된 종료 주문 보관 테이블 (OrderArchiver가 chunk 단위로 옮긴다)
+
+create table orders_archive (
+    id              bigint       not null,
+    customer_name   varchar(255) not null,
+    status          varchar(20)  not null,
+    total_price     integer      not null,
+    ordered_at      timestamp(6) not null,
+    version         bigint,
+    idempotency_key varchar(64),
+    archived_at     timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_orders_archive_ordered_at on orders_archive (ordered_at, id);
+
+create table order_items_archive (
+    id         bigint       not null,
+    order_id   bigint       not null,
+    menu_id    bigint       not null,
+    menu_name  varchar(255) not null,
+    menu_price integer      not null,
+    quantity   integer      not null,
+    primary key (id)
+);
+
+create index idx_order_items_archive_order_id on order_items_archive (order_id);
@@ -0,0 +1,12 @@
+-- 노드 간 캐시 무효화 로그 (각 노드가 id 순서로 폴링한다)
+
+create table cache_invalidations (
+    id         bigint generated by default as identity,
+    region     varchar(20) not null,
+    entity_id  bigint      not null,
+    node_id    varchar(64) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_cache_invalidations_created_at on cache_invalidations (created_at);
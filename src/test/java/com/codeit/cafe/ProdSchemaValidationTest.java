@@ -0,0 +1,21 @@
+package com.codeit.cafe;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * prod 프로필은 Flyway 마이그레이션으로 스키마를 만들고 ddl-auto: validate 로 엔티티와 맞는지 확인한다.
+ * 마이그레이션과 엔티티가 어긋나면 컨텍스트가 뜨지 않는다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:prod-schema-validation")
+@ActiveProfiles("prod")
+@DisplayName("prod 프로필 스키마 검증 테스트")
+class ProdSchemaValidationTest {
+
+    @Test
+    @DisplayName("마이그레이션으로 만든 스키마가 엔티티 매핑과 일치한다.")
+    void contextLoads_WithFlywaySchema() {
+    }
+}
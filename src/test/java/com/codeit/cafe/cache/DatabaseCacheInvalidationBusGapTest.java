@@ -0,0 +1,149 @@
+package com.codeit.cafe.cache;
+
+import com.codeit.cafe.domain.CacheRegion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빈 번호(늦게 커밋되는 행)와 batch-size 를 넘는 밀린 행을 직접 id를 넣어 확인한다.
+ */
+@DisplayName("캐시 무효화 버스 빈 번호 테스트")
+class DatabaseCacheInvalidationBusGapTest {
+
+    private static final long RETENTION_SECONDS = 60;
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private final List<Long> delivered = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bus-gap-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("CREATE TABLE cache_invalidations (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "region VARCHAR(20) NOT NULL, entity_id BIGINT NOT NULL, node_id VARCHAR(64) NOT NULL, created_at TIMESTAMP NOT NULL)");
+    }
+
+    @Test
+    @DisplayName("앞 번호가 늦게 커밋되어도 뒤 행은 바로 전달하고, 앞 번호는 커밋된 뒤 한 번만 전달한다.")
+    void poll_GapFilledLater_DeliversOnce() {
+        DatabaseCacheInvalidationBus bus = startBus(500);
+        insert(2);
+        insert(3);
+
+        bus.poll(0);
+        assertThat(delivered).containsExactly(2L, 3L);
+        assertThat(bus.getGapCount()).isEqualTo(1);
+
+        insert(1);
+        bus.poll(seconds(1));
+        bus.poll(seconds(2));
+
+        assertThat(delivered).containsExactly(2L, 3L, 1L);
+        assertThat(bus.getGapCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("빈 번호는 retention-seconds 동안 다시 조회하고, 그 뒤에는 잊는다.")
+    void poll_GapOlderThanRetention_Expires() {
+        DatabaseCacheInvalidationBus bus = startBus(500);
+        insert(2);
+        bus.poll(0);
+
+        bus.poll(seconds(RETENTION_SECONDS - 1));
+        assertThat(bus.getGapCount()).isEqualTo(1);
+
+        bus.poll(seconds(RETENTION_SECONDS));
+        assertThat(bus.getGapCount()).isZero();
+
+        insert(1);
+        bus.poll(seconds(RETENTION_SECONDS + 1));
+        assertThat(delivered).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("빈 번호 뒤에 batch-size 보다 많은 행이 밀려 있어도 한 번의 폴링에서 모두 읽고 커서가 앞으로 간다.")
+    void poll_MoreRowsThanBatchBehindGap_Progresses() {
+        DatabaseCacheInvalidationBus bus = startBus(2);
+        for (long id = 2; id <= 7; id++) {
+            insert(id);
+        }
+
+        bus.poll(0);
+        assertThat(delivered).containsExactly(2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(bus.getCursor()).isEqualTo(7);
+
+        insert(1);
+        insert(8);
+        bus.poll(seconds(1));
+
+        assertThat(delivered).containsExactly(2L, 3L, 4L, 5L, 6L, 7L, 1L, 8L);
+        assertThat(bus.getGapCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("자기 노드가 발행한 행은 전달하지 않는다.")
+    void poll_OwnRows_Skipped() {
+        DatabaseCacheInvalidationBus bus = startBus(500);
+        bus.publish(CacheRegion.ORDER, 10);
+        insert(2);
+
+        bus.poll(0);
+
+        assertThat(delivered).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("발행은 변경한 트랜잭션에 참여하므로 롤백되면 무효화 행도 남지 않는다.")
+    void publish_JoinsCallerTransaction() {
+        DatabaseCacheInvalidationBus bus = startBus(500);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bus.publishAll(CacheRegion.ORDER, List.of(10L, 11L));
+            status.setRollbackOnly();
+        });
+        assertThat(countRows()).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> bus.publishAll(CacheRegion.ORDER, List.of(10L, 11L)));
+        assertThat(countRows()).isEqualTo(2);
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cache_invalidations", Integer.class);
+    }
+
+    private DatabaseCacheInvalidationBus startBus(int batchSize) {
+        DatabaseCacheInvalidationBus bus = new DatabaseCacheInvalidationBus(
+                jdbcTemplate, "node-a", batchSize, RETENTION_SECONDS);
+        bus.subscribe(CacheRegion.ORDER, delivered::add);
+        bus.initialize();
+        return bus;
+    }
+
+    // entity_id 는 id와 같게 넣어 전달 순서를 id로 확인한다.
+    private void insert(long id) {
+        jdbcTemplate.update("INSERT INTO cache_invalidations (id, region, entity_id, node_id, created_at) VALUES (?, ?, ?, ?, ?)",
+                id, CacheRegion.ORDER.name(), id, "node-b", Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static long seconds(long seconds) {
+        return TimeUnit.SECONDS.toNanos(seconds);
+    }
+}
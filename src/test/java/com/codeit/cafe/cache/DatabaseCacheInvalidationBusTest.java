@@ -0,0 +1,177 @@
+package com.codeit.cafe.cache;
+
+import com.codeit.cafe.CafeOrderSystemApplication;
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.KitchenTicketResponse;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.service.KitchenScheduler;
+import com.codeit.cafe.service.MenuCatalog;
+import com.codeit.cafe.service.MenuService;
+import com.codeit.cafe.service.OrderService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 한 JVM에서 같은 H2 DB를 쓰는 두 애플리케이션 컨텍스트를 노드로 띄워 확인한다.
+ */
+@DisplayName("노드 간 캐시 무효화 테스트")
+class DatabaseCacheInvalidationBusTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:cachebus;DB_CLOSE_DELAY=-1";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        // 스키마는 첫 노드만 만든다. (create는 기존 테이블을 지운다)
+        nodeA = startNode("node-a", "create");
+        nodeB = startNode("node-b", "none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    @DisplayName("한 노드에서 메뉴 판매를 중지하면 다른 노드의 메뉴 카탈로그에서도 빠진다.")
+    void updateAvailability_OnOneNode_ReloadsCatalogOnOtherNode() {
+        Menu menu = nodeA.getBean(MenuRepository.class)
+                .save(Menu.builder().name("시즌 라떼").price(5500).available(true).build());
+        MenuCatalog catalogB = nodeB.getBean(MenuCatalog.class);
+        catalogB.reload();
+        assertThat(availableMenuIds(catalogB)).contains(menu.getId());
+
+        nodeA.getBean(MenuService.class).updateAvailability(menu.getId(), false);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(availableMenuIds(catalogB)).doesNotContain(menu.getId()));
+    }
+
+    @Test
+    @DisplayName("한 노드에서 주문 상태를 바꾸면 다른 노드의 캐시된 주문 응답이 무효화된다.")
+    void updateOrderStatus_OnOneNode_InvalidatesCachedOrderOnOtherNode() {
+        Menu menu = nodeA.getBean(MenuRepository.class)
+                .save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+        OrderService orderServiceA = nodeA.getBean(OrderService.class);
+        OrderService orderServiceB = nodeB.getBean(OrderService.class);
+        long orderId = orderServiceA.createOrder(OrderCreateRequest.builder()
+                .customerName("노드고객")
+                .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(1).build()))
+                .build()).getId();
+        assertThat(orderServiceB.getOrder(orderId).getStatus()).isEqualTo(OrderStatus.PENDING);
+
+        orderServiceA.updateOrderStatus(orderId, OrderStatus.CONFIRMED);
+
+        // 응답 캐시 TTL(30초)보다 훨씬 짧은 시간 안에 반영되어야 한다.
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(orderServiceB.getOrder(orderId).getStatus())
+                        .isEqualTo(OrderStatus.CONFIRMED));
+    }
+
+    @Test
+    @DisplayName("한 노드에서 주문을 확인하면 다른 노드의 주방 대기열에 들어가고, 완료하면 빠진다.")
+    void updateOrderStatus_OnOneNode_UpdatesKitchenOnOtherNode() {
+        Menu menu = nodeA.getBean(MenuRepository.class)
+                .save(Menu.builder().name("카페라떼").price(4500).available(true).build());
+        OrderService orderServiceA = nodeA.getBean(OrderService.class);
+        KitchenScheduler kitchenB = nodeB.getBean(KitchenScheduler.class);
+        long orderId = orderServiceA.createOrder(OrderCreateRequest.builder()
+                .customerName("주방고객")
+                .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(1).build()))
+                .build()).getId();
+
+        orderServiceA.updateOrderStatus(orderId, OrderStatus.CONFIRMED);
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(waitingOrderIds(kitchenB)).contains(orderId));
+
+        orderServiceA.updateOrderStatus(orderId, OrderStatus.PREPARING);
+        orderServiceA.updateOrderStatus(orderId, OrderStatus.COMPLETED);
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(waitingOrderIds(kitchenB)).doesNotContain(orderId));
+    }
+
+    @Test
+    @DisplayName("두 노드에 주문이 동시에 몰려도 한정 수량 메뉴는 menus.stock 보다 많이 팔리지 않는다.")
+    void createOrder_OnBothNodes_NeverOversells() throws Exception {
+        int stock = 20;
+        Menu menu = nodeA.getBean(MenuRepository.class)
+                .save(Menu.builder().name("한정 케이크").price(7000).available(true).stock(stock).build());
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (ConfigurableApplicationContext node : List.of(nodeA, nodeB, nodeA, nodeB)) {
+            OrderService orderService = node.getBean(OrderService.class);
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < stock; i++) {
+                    try {
+                        orderService.createOrder(OrderCreateRequest.builder()
+                                .customerName("한정고객")
+                                .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(1).build()))
+                                .build());
+                        sold.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // 매진
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(sold).hasValue(stock);
+        assertThat(nodeB.getBean(MenuRepository.class).findById(menu.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    private static List<Long> waitingOrderIds(KitchenScheduler kitchen) {
+        return kitchen.getWaitingTickets().stream().map(KitchenTicketResponse::getOrderId).toList();
+    }
+
+    private static List<Long> availableMenuIds(MenuCatalog catalog) {
+        return catalog.findAvailableMenus().stream().map(Menu::getId).toList();
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId, String ddlAuto) {
+        return new SpringApplicationBuilder(CafeOrderSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + DB_URL,
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+                        "cafe.archive.enabled=false",
+                        "cafe.cache.bus.node-id=" + nodeId,
+                        "cafe.cache.bus.poll-interval-ms=50")
+                .run();
+    }
+}
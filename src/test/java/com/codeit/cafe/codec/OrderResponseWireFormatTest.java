@@ -0,0 +1,125 @@
+package com.codeit.cafe.codec;
+
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderItemResponse;
+import com.codeit.cafe.dto.OrderResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderResponse 전송 형식 호환성 테스트")
+class OrderResponseWireFormatTest {
+
+    private static final ObjectMapper JSON = mapper(new JsonFactory());
+    private static final ObjectMapper CBOR = mapper(new CBORFactory());
+    private static final ObjectMapper SMILE = mapper(new SmileFactory());
+
+    static Stream<Arguments> responses() {
+        return Stream.of(
+                Arguments.of("일반 주문", order(List.of(
+                        item(1L, "아메리카노", 4000, 2),
+                        item(2L, "라떼", 4500, 1)))),
+                Arguments.of("항목 없음", order(List.of())),
+                Arguments.of("null 필드", new OrderResponse(null, null, null, null, null, null)),
+                Arguments.of("null 항목 필드", order(List.of(new OrderItemResponse(null, null, null, null, null)))),
+                Arguments.of("유니코드", new OrderResponse(7L, "김춘식 ☕ 😀 Ω", OrderStatus.CANCELLED,
+                        List.of(item(3L, "말차 🍵 라떼", 5500, 3)), 16500,
+                        LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999_999_999))),
+                Arguments.of("경계값", new OrderResponse(Long.MAX_VALUE, "", OrderStatus.COMPLETED,
+                        List.of(new OrderItemResponse(Long.MIN_VALUE, "x", Integer.MAX_VALUE, Integer.MIN_VALUE, 0)),
+                        Integer.MIN_VALUE, LocalDateTime.of(1970, 1, 1, 0, 0))),
+                Arguments.of("항목 많음", order(manyItems(500))));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("responses")
+    @DisplayName("코덱으로 인코딩한 응답은 그대로 디코딩된다.")
+    void codec_RoundTrip(String name, OrderResponse response) {
+        OrderResponse decoded = OrderResponseCodec.decode(OrderResponseCodec.encode(response));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(response);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("responses")
+    @DisplayName("JSON, CBOR, Smile, 코덱 어느 형식으로 보내도 같은 응답이 된다.")
+    void allFormats_DecodeToSameResponse(String name, OrderResponse response) throws Exception {
+        OrderResponse fromJson = JSON.readValue(JSON.writeValueAsBytes(response), OrderResponse.class);
+        OrderResponse fromCbor = CBOR.readValue(CBOR.writeValueAsBytes(response), OrderResponse.class);
+        OrderResponse fromSmile = SMILE.readValue(SMILE.writeValueAsBytes(response), OrderResponse.class);
+        OrderResponse fromCodec = OrderResponseCodec.decode(OrderResponseCodec.encode(response));
+
+        assertThat(fromJson).usingRecursiveComparison().isEqualTo(response);
+        assertThat(fromCbor).usingRecursiveComparison().isEqualTo(fromJson);
+        assertThat(fromSmile).usingRecursiveComparison().isEqualTo(fromJson);
+        assertThat(fromCodec).usingRecursiveComparison().isEqualTo(fromJson);
+    }
+
+    @Test
+    @DisplayName("코덱 형식은 JSON보다 작다.")
+    void codec_SmallerThanJson() throws Exception {
+        OrderResponse response = order(List.of(item(1L, "아메리카노", 4000, 2), item(2L, "라떼", 4500, 1)));
+
+        assertThat(OrderResponseCodec.encode(response).length)
+                .isLessThan(CBOR.writeValueAsBytes(response).length)
+                .isLessThan(JSON.writeValueAsBytes(response).length);
+    }
+
+    @Test
+    @DisplayName("버전이 다르거나 잘린 데이터는 IllegalArgumentException")
+    void codec_InvalidInput_Throws() {
+        byte[] encoded = OrderResponseCodec.encode(order(List.of(item(1L, "아메리카노", 4000, 2))));
+        byte[] otherVersion = encoded.clone();
+        otherVersion[0] = 99;
+
+        assertThatThrownBy(() -> OrderResponseCodec.decode(otherVersion))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("버전");
+        assertThatThrownBy(() -> OrderResponseCodec.decode(Arrays.copyOf(encoded, encoded.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        // 스프링 부트 기본 설정과 같게 날짜는 ISO 문자열
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static OrderResponse order(List<OrderItemResponse> orderItems) {
+        int totalPrice = orderItems.stream()
+                .mapToInt(item -> item.getSubtotal() != null ? item.getSubtotal() : 0)
+                .sum();
+        return new OrderResponse(42L, "김춘식", OrderStatus.PREPARING, orderItems, totalPrice,
+                LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000));
+    }
+
+    private static OrderItemResponse item(long menuId, String menuName, int menuPrice, int quantity) {
+        return new OrderItemResponse(menuId, menuName, menuPrice, quantity, menuPrice * quantity);
+    }
+
+    private static List<OrderItemResponse> manyItems(int count) {
+        List<OrderItemResponse> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(item(i, "메뉴" + i, 1000 + i, i % 5 + 1));
+        }
+        return items;
+    }
+}
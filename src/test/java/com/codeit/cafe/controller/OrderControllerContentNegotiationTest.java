@@ -0,0 +1,141 @@
+package com.codeit.cafe.controller;
+
+import com.codeit.cafe.codec.OrderResponseCodec;
+import com.codeit.cafe.codec.OrderResponseHttpMessageConverter;
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.service.OrderService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("주문 API 응답 형식 협상 테스트")
+class OrderControllerContentNegotiationTest {
+
+    private static final String CUSTOMER_NAME = "형식 협상 고객";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private MenuRepository menuRepository;
+
+    private OrderResponse order;
+
+    @BeforeAll
+    void setUpOrder() {
+        Menu menu = menuRepository.save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+        order = orderService.createOrder(OrderCreateRequest.builder()
+                .customerName(CUSTOMER_NAME)
+                .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(2).build()))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Accept를 지정하지 않으면 JSON으로 응답한다.")
+    void getOrder_NoAccept_DefaultsToJson() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/orders/{orderId}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(mapper(new JsonFactory()).readValue(body, OrderResponse.class))
+                .usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    @DisplayName("Accept: */* 도 JSON으로 응답한다.")
+    void getOrder_AcceptAll_DefaultsToJson() throws Exception {
+        mockMvc.perform(get("/api/orders/{orderId}", order.getId()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor 이면 CBOR로 응답한다.")
+    void getOrder_AcceptCbor_RespondsCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/orders/{orderId}", order.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(mapper(new CBORFactory()).readValue(body, OrderResponse.class))
+                .usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    @DisplayName("Accept: application/x-jackson-smile 이면 Smile로 응답한다.")
+    void getOrder_AcceptSmile_RespondsSmile() throws Exception {
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        byte[] body = mockMvc.perform(get("/api/orders/{orderId}", order.getId()).accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(mapper(new SmileFactory()).readValue(body, OrderResponse.class))
+                .usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    @DisplayName("Accept: application/vnd.cafe.order+binary 이면 주문 코덱으로 응답한다.")
+    void getOrder_AcceptOrderBinary_RespondsCodec() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/orders/{orderId}", order.getId())
+                        .accept(OrderResponseHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(OrderResponseHttpMessageConverter.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(OrderResponseCodec.decode(body)).usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    @DisplayName("목록 응답은 JSON이 기본이고 CBOR도 되지만, 단건 전용 코덱 형식은 406이다.")
+    void getOrders_NegotiatesListFormats() throws Exception {
+        mockMvc.perform(get("/api/orders").param("customerName", CUSTOMER_NAME))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.orders[0].id").value(order.getId()));
+        mockMvc.perform(get("/api/orders").param("customerName", CUSTOMER_NAME).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/api/orders").param("customerName", CUSTOMER_NAME)
+                        .accept(OrderResponseHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.codeit.cafe.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderStatus 테스트")
+class OrderStatusTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @MethodSource("allPairs")
+    @DisplayName("모든 상태 쌍에서 canTransitionTo와 nextStatuses()는 원래 전이 규칙과 같다.")
+    void canTransitionTo_MatchesOriginalRules(OrderStatus from, OrderStatus to) {
+        boolean expected = originalRule(from, to);
+
+        assertThat(from.canTransitionTo(to)).isEqualTo(expected);
+        assertThat(from.nextStatuses().contains(to)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @EnumSource(OrderStatus.class)
+    @DisplayName("nextStatuses()는 원래 규칙으로 갈 수 있는 상태만 담는다.")
+    void nextStatuses_EqualsOriginalRules(OrderStatus from) {
+        Set<OrderStatus> expected = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus to : OrderStatus.values()) {
+            if (originalRule(from, to)) {
+                expected.add(to);
+            }
+        }
+
+        assertThat(from.nextStatuses()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private static Stream<Arguments> allPairs() {
+        return Arrays.stream(OrderStatus.values())
+                .flatMap(from -> Arrays.stream(OrderStatus.values()).map(to -> Arguments.of(from, to)));
+    }
+
+    /** 전이 표를 도입하기 전 switch 문 그대로의 규칙 */
+    private static boolean originalRule(OrderStatus from, OrderStatus to) {
+        return switch (from) {
+            case PENDING -> to == OrderStatus.CONFIRMED || to == OrderStatus.CANCELLED;
+            case CONFIRMED -> to == OrderStatus.PREPARING || to == OrderStatus.CANCELLED;
+            case PREPARING -> to == OrderStatus.COMPLETED;
+            case COMPLETED, CANCELLED -> false;
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.codeit.cafe.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Order 테스트")
+class OrderTest {
+
+    @Test
+    @DisplayName("항목을 한꺼번에 추가해도 총 금액은 하나씩 추가한 것과 같다.")
+    void addOrderItems_SameTotalAsAddOrderItem() {
+        Menu americano = menu(4000);
+        Menu latte = menu(4500);
+        Order single = Order.builder().customerName("홍길동").build();
+        single.addOrderItem(americano, 2);
+        single.addOrderItem(latte, 1);
+
+        Order bulk = Order.builder().customerName("홍길동").build();
+        bulk.addOrderItems(List.of(OrderLine.of(americano, 2), OrderLine.of(latte, 1)));
+
+        assertThat(bulk.getTotalPrice()).isEqualTo(single.getTotalPrice()).isEqualTo(12500);
+        assertThat(bulk.getOrderItems()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("항목 하나씩 추가하다 금액 범위를 넘으면 IllegalStateException")
+    void addOrderItem_Overflow_ThrowsIllegalState() {
+        Order order = Order.builder().customerName("홍길동").build();
+        order.addOrderItem(menu(Integer.MAX_VALUE), 1);
+
+        assertThatThrownBy(() -> order.addOrderItem(menu(1), 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("주문 금액이 허용 범위를 초과했습니다.");
+        assertThat(order.getTotalPrice()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(order.getOrderItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("일괄 추가에서 long 합계도 넘칠 만큼 커도 같은 IllegalStateException이고 항목은 추가되지 않는다.")
+    void addOrderItems_Overflow_ThrowsIllegalState() {
+        Order order = Order.builder().customerName("홍길동").build();
+        Menu expensive = menu(Integer.MAX_VALUE);
+        List<OrderLine> orderLines = List.of(
+                OrderLine.of(expensive, Integer.MAX_VALUE),
+                OrderLine.of(expensive, Integer.MAX_VALUE),
+                OrderLine.of(expensive, Integer.MAX_VALUE));
+
+        assertThatThrownBy(() -> order.addOrderItems(orderLines))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("주문 금액이 허용 범위를 초과했습니다.");
+        assertThat(order.getTotalPrice()).isZero();
+        assertThat(order.getOrderItems()).isEmpty();
+    }
+
+    private static Menu menu(int price) {
+        return Menu.builder().name("메뉴" + price).price(price).available(true).build();
+    }
+}
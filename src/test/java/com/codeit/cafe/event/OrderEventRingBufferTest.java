@@ -0,0 +1,88 @@
+package com.codeit.cafe.event;
+
+import com.codeit.cafe.domain.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderEventRingBuffer 테스트")
+class OrderEventRingBufferTest {
+
+    private static final Predicate<OrderStatusChangedEvent> ALL = event -> true;
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올리고, 한 바퀴 돌면 같은 슬롯을 새 시퀀스로 덮어쓴다.")
+    void publish_WrapsAround() {
+        OrderEventRingBuffer ringBuffer = new OrderEventRingBuffer(5);
+        assertThat(ringBuffer.capacity()).isEqualTo(8);
+
+        for (long orderId = 0; orderId < 10; orderId++) {
+            ringBuffer.publish(event(orderId, OrderStatus.CONFIRMED));
+        }
+
+        assertThat(ringBuffer.nextSequence()).isEqualTo(10);
+        assertThat(ringBuffer.slot(9).sequence()).isEqualTo(9);
+        // 시퀀스 1의 자리는 9가 덮어썼다.
+        assertThat(ringBuffer.slot(1).sequence()).isEqualTo(9);
+        assertThat(ringBuffer.slot(1).event().getOrderId()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("밀린 이벤트는 주문별 최신 상태 하나로 합치고, 마지막 변경 순서로 돌려준다.")
+    void read_CoalescesPerOrder() {
+        OrderEventRingBuffer ringBuffer = new OrderEventRingBuffer(16);
+        ringBuffer.publish(event(1L, OrderStatus.CONFIRMED));
+        ringBuffer.publish(event(2L, OrderStatus.CONFIRMED));
+        ringBuffer.publish(event(1L, OrderStatus.PREPARING));
+
+        OrderEventRingBuffer.Batch batch = ringBuffer.read(0, ALL);
+
+        assertThat(batch.events()).extracting(OrderStatusChangedEvent::getOrderId, OrderStatusChangedEvent::getStatus)
+                .containsExactly(tuple(2L, OrderStatus.CONFIRMED), tuple(1L, OrderStatus.PREPARING));
+        assertThat(batch.nextCursor()).isEqualTo(3);
+        assertThat(batch.dropped()).isZero();
+        assertThat(ringBuffer.read(batch.nextCursor(), ALL).events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 밀린 구독자는 덮어써진 이벤트 수만큼 dropped로 세고 남은 이벤트부터 읽는다.")
+    void read_WhenLappedByWriter_CountsDropped() {
+        OrderEventRingBuffer ringBuffer = new OrderEventRingBuffer(4);
+        for (long orderId = 0; orderId < 7; orderId++) {
+            ringBuffer.publish(event(orderId, OrderStatus.CONFIRMED));
+        }
+
+        OrderEventRingBuffer.Batch batch = ringBuffer.read(0, ALL);
+
+        assertThat(batch.dropped()).isEqualTo(3);
+        assertThat(batch.events()).extracting(OrderStatusChangedEvent::getOrderId).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(batch.nextCursor()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("구독 조건에 맞지 않는 이벤트는 보내지 않지만 커서는 넘어간다.")
+    void read_WithStatusAndOrderFilter() {
+        OrderEventRingBuffer ringBuffer = new OrderEventRingBuffer(16);
+        ringBuffer.publish(event(1L, OrderStatus.PREPARING));
+        ringBuffer.publish(event(1L, OrderStatus.COMPLETED));
+        ringBuffer.publish(event(2L, OrderStatus.COMPLETED));
+        ringBuffer.publish(event(3L, OrderStatus.CANCELLED));
+
+        OrderEventRingBuffer.Batch completed =
+                ringBuffer.read(0, OrderEventStream.filterOf(Set.of(OrderStatus.COMPLETED), null));
+        OrderEventRingBuffer.Batch orderOne = ringBuffer.read(0, OrderEventStream.filterOf(Set.of(), 1L));
+
+        assertThat(completed.events()).extracting(OrderStatusChangedEvent::getOrderId).containsExactly(1L, 2L);
+        assertThat(completed.nextCursor()).isEqualTo(4);
+        assertThat(orderOne.events()).extracting(OrderStatusChangedEvent::getStatus)
+                .containsExactly(OrderStatus.COMPLETED);
+    }
+
+    private static OrderStatusChangedEvent event(long orderId, OrderStatus status) {
+        return OrderStatusChangedEvent.changed(orderId, OrderStatus.PENDING, status);
+    }
+}
@@ -0,0 +1,94 @@
+package com.codeit.cafe.metrics;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderServiceStatisticsAspect 테스트")
+class OrderServiceStatisticsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(OrderServiceStatisticsAspect.class);
+    private OrderServiceStatisticsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        StatementBudgetProperties properties = new StatementBudgetProperties();
+        properties.setStatementBudget(Map.of("getOrder", 1));
+        aspect = new OrderServiceStatisticsAspect(meterRegistry, properties);
+        logs.start();
+        logger.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(logs);
+    }
+
+    @Test
+    @DisplayName("허용 SQL 문 수를 넘으면 초과 카운터를 올리고 경고를 남긴다.")
+    void record_OverBudget_IncrementsCounterAndWarns() throws Throwable {
+        aspect.record(joinPoint("getOrder", 3));
+
+        assertThat(meterRegistry.get("cafe.order.sql.budget.exceeded").tag("method", "getOrder").counter().count())
+                .isEqualTo(1);
+        assertThat(aspect.getMethodStatistics().get("getOrder").getBudgetExceeded()).isEqualTo(1);
+        assertThat(logs.list)
+                .anySatisfy(event -> {
+                    assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                    assertThat(event.getFormattedMessage()).contains("method=getOrder", "statements=3", "budget=1");
+                });
+    }
+
+    @Test
+    @DisplayName("허용치 이내면 경고 없이 통계만 기록한다.")
+    void record_WithinBudget_DoesNotWarn() throws Throwable {
+        aspect.record(joinPoint("getOrder", 1));
+
+        assertThat(meterRegistry.get("cafe.order.sql.budget.exceeded").tag("method", "getOrder").counter().count())
+                .isZero();
+        assertThat(logs.list).noneMatch(event -> event.getLevel() == Level.WARN);
+    }
+
+    @Test
+    @DisplayName("같은 메서드의 미터는 한 번만 등록하고 이후 호출에서 재사용한다.")
+    void record_RepeatedCalls_ReusesMeters() throws Throwable {
+        aspect.record(joinPoint("getOrder", 1));
+        aspect.record(joinPoint("getOrder", 2));
+
+        assertThat(meterRegistry.find("cafe.order.sql.statements").tag("method", "getOrder").summaries()).hasSize(1);
+        assertThat(meterRegistry.get("cafe.order.sql.statements").tag("method", "getOrder").summary().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("cafe.order.sql.statements").tag("method", "getOrder").summary().totalAmount())
+                .isEqualTo(3);
+    }
+
+    private static ProceedingJoinPoint joinPoint(String method, int statements) throws Throwable {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(signature.getName()).thenReturn(method);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            for (int i = 0; i < statements; i++) {
+                RequestStatistics.statementExecuted();
+            }
+            return null;
+        });
+        return joinPoint;
+    }
+}
@@ -0,0 +1,117 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.dto.OrderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IdempotencyCache 테스트")
+class IdempotencyCacheTest {
+
+    @Test
+    @DisplayName("같은 키로 동시에 요청해도 한 번만 생성하고 모두 같은 응답을 받는다.")
+    void getOrCreate_ConcurrentRetries_CreatesOnce() throws Exception {
+        IdempotencyCache cache = new IdempotencyCache(100, 60);
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<OrderResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.getOrCreate("key", () -> {
+                        creations.incrementAndGet();
+                        return OrderResponse.builder().id(1L).build();
+                    });
+                }));
+            }
+            start.countDown();
+
+            OrderResponse first = futures.get(0).get();
+            for (Future<OrderResponse> future : futures) {
+                assertThat(future.get()).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("생성에 실패한 키는 남지 않아서 재시도할 수 있다.")
+    void getOrCreate_AfterFailure_CanRetry() {
+        IdempotencyCache cache = new IdempotencyCache(100, 60);
+
+        assertThatThrownBy(() -> cache.getOrCreate("key", () -> {
+            throw new IllegalStateException("주문할 수 없는 메뉴입니다.");
+        })).isInstanceOf(IllegalStateException.class);
+
+        OrderResponse response = cache.getOrCreate("key", () -> OrderResponse.builder().id(1L).build());
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 먼저 등록된 키부터 제거한다.")
+    void getOrCreate_OverMaxSize_EvictsOldest() {
+        IdempotencyCache cache = new IdempotencyCache(2, 60);
+        AtomicInteger creations = new AtomicInteger();
+
+        for (String key : List.of("a", "b", "c", "a")) {
+            cache.getOrCreate(key, () -> OrderResponse.builder().id((long) creations.incrementAndGet()).build());
+        }
+
+        assertThat(creations).hasValue(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("생성에 실패한 키가 계속 들어와도 만료 대기열이 커지지 않는다.")
+    void getOrCreate_RepeatedFailures_KeepsQueueBounded() {
+        IdempotencyCache cache = new IdempotencyCache(100, 60);
+        cache.getOrCreate("live", () -> OrderResponse.builder().id(1L).build());
+
+        for (int i = 0; i < 10_000; i++) {
+            String key = "failed-" + i;
+            assertThatThrownBy(() -> cache.getOrCreate(key, () -> {
+                throw new IllegalStateException("주문할 수 없는 메뉴입니다.");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.queuedNodes()).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("살아 있는 키 뒤에 쌓인 실패 노드도 정리하고 살아 있는 키는 유지한다.")
+    void getOrCreate_FailuresBehindLiveEntries_CompactsQueue() {
+        IdempotencyCache cache = new IdempotencyCache(1_000, 60);
+        for (int i = 0; i < 10; i++) {
+            long id = i;
+            cache.getOrCreate("live-" + i, () -> OrderResponse.builder().id(id).build());
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            String key = "failed-" + i;
+            assertThatThrownBy(() -> cache.getOrCreate(key, () -> {
+                throw new IllegalStateException("주문할 수 없는 메뉴입니다.");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(cache.queuedNodes()).isLessThanOrEqualTo(2 * 10 + 64 + 1);
+        OrderResponse cached = cache.getOrCreate("live-0", () -> OrderResponse.builder().id(-1L).build());
+        assertThat(cached.getId()).isZero();
+    }
+}
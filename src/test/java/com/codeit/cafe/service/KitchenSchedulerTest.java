@@ -0,0 +1,280 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.KitchenTicketResponse;
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("KitchenScheduler 테스트")
+class KitchenSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 9, 0);
+
+    private OrderRepository orderRepository;
+    private KitchenScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        MenuCatalog menuCatalog = mock(MenuCatalog.class);
+        Menu americano = Menu.builder().name("아메리카노").price(4000).prepSeconds(60).build();
+        Menu cake = Menu.builder().name("케이크").price(6000).prepSeconds(300).build();
+        ReflectionTestUtils.setField(americano, "id", 1L);
+        ReflectionTestUtils.setField(cake, "id", 2L);
+        when(menuCatalog.findAllById(anyCollection())).thenReturn(Map.of(1L, americano, 2L, cake));
+
+        when(orderRepository.streamRowsByStatus(any())).thenAnswer(invocation -> Stream.empty());
+
+        scheduler = initialized(new KitchenScheduler(orderRepository, menuCatalog, mock(PlatformTransactionManager.class), 120, 60_000, 60));
+    }
+
+    @Test
+    @DisplayName("앞 구간의 주문부터, 같은 구간 안에서는 항목 수와 조리 시간이 적은 주문부터 배정한다.")
+    void claim_InPriorityOrder() {
+        confirm(10L, row(10L, NOW.plusMinutes(1), 1L, 1));
+        confirm(11L, row(11L, NOW, 2L, 1));
+        confirm(12L, row(12L, NOW, 1L, 1));
+        confirm(13L, row(13L, NOW, 1L, 1), row(13L, NOW, 2L, 1));
+
+        assertThat(claimedOrderId("bar-1")).isEqualTo(12L);
+        assertThat(claimedOrderId("bar-2")).isEqualTo(11L);
+        assertThat(claimedOrderId("bar-1")).isEqualTo(13L);
+        assertThat(claimedOrderId("bar-2")).isEqualTo(10L);
+        assertThat(scheduler.claim("bar-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 구간 안에서는 늦게 온 작은 주문이 먼저 온 큰 주문보다 앞선다.")
+    void claim_WithinWindow_SmallerOrderFirst() {
+        confirm(10L, row(10L, NOW, 1L, 1), row(10L, NOW, 2L, 2));
+        confirm(11L, row(11L, NOW.plusSeconds(30), 1L, 1));
+        confirm(12L, row(12L, NOW.plusSeconds(90), 1L, 1));
+
+        assertThat(claimedOrderId("bar-1")).isEqualTo(11L);
+        assertThat(claimedOrderId("bar-1")).isEqualTo(10L);
+        assertThat(claimedOrderId("bar-1")).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("리스가 끝나면 작업이 대기열로 돌아가서 다른 스테이션이 가져갈 수 있다.")
+    void sweepExpiredLeases_RequeuesTicket() {
+        scheduler = initialized(new KitchenScheduler(orderRepository, mock(MenuCatalog.class), mock(PlatformTransactionManager.class), 120, 0, 60));
+        confirm(10L, row(10L, NOW, 1L, 2));
+
+        KitchenTicketResponse claimed = scheduler.claim("bar-1").orElseThrow();
+        assertThat(claimed.getEstimatedPrepSeconds()).isEqualTo(240);
+        assertThat(scheduler.claim("bar-2")).isEmpty();
+
+        scheduler.sweepExpiredLeases();
+
+        assertThat(claimedOrderId("bar-2")).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("다른 스테이션의 작업은 연장하거나 반납할 수 없고, 완료된 주문은 대기열에서 빠진다.")
+    void renewAndRelease_OnlyByOwner() {
+        confirm(10L, row(10L, NOW, 1L, 1));
+        confirm(11L, row(11L, NOW.plusMinutes(1), 1L, 1));
+        scheduler.claim("bar-1");
+
+        assertThatThrownBy(() -> scheduler.renew(10L, "bar-2")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> scheduler.release(10L, "bar-2")).isInstanceOf(IllegalStateException.class);
+        assertThat(scheduler.renew(10L, "bar-1").getStationId()).isEqualTo("bar-1");
+
+        scheduler.onOrderStatusChanged(OrderStatusChangedEvent.changed(11L, OrderStatus.CONFIRMED, OrderStatus.CANCELLED));
+        scheduler.release(10L, "bar-1");
+
+        assertThat(scheduler.getWaitingTickets())
+                .extracting(KitchenTicketResponse::getOrderId)
+                .containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("초기화 스캔 중에 들어온 상태 변경은 스캔이 끝난 뒤 적용한다.")
+    void initialize_EventsDuringScan_AppliedAfterScan() {
+        scheduler = new KitchenScheduler(orderRepository, mock(MenuCatalog.class), mock(PlatformTransactionManager.class), 120, 60_000, 60);
+        when(orderRepository.findRowsById(21L)).thenReturn(List.of(row(21L, NOW, 1L, 1)));
+        when(orderRepository.streamRowsByStatus(OrderStatus.CONFIRMED)).thenAnswer(invocation ->
+                Stream.of(row(20L, NOW, 1L, 1)).peek(row -> {
+                    // 스캔에 잡힌 주문이 완료되고, 스캔에 없던 주문이 확인된다.
+                    scheduler.onOrderStatusChanged(OrderStatusChangedEvent.changed(20L, OrderStatus.PREPARING, OrderStatus.COMPLETED));
+                    scheduler.onOrderStatusChanged(OrderStatusChangedEvent.changed(21L, OrderStatus.PENDING, OrderStatus.CONFIRMED));
+                }));
+
+        scheduler.initialize();
+
+        assertThat(scheduler.getWaitingTickets())
+                .extracting(KitchenTicketResponse::getOrderId)
+                .containsExactly(21L);
+    }
+
+    @Test
+    @DisplayName("모아 둔 이벤트를 적용하는 사이 들어온 이벤트도 초기화가 끝나기 전에 이어서 적용한다.")
+    void initialize_EventsDuringReplay_AppliedInNextRound() {
+        scheduler = new KitchenScheduler(orderRepository, mock(MenuCatalog.class), mock(PlatformTransactionManager.class), 120, 60_000, 60);
+        when(orderRepository.streamRowsByStatus(OrderStatus.CONFIRMED)).thenAnswer(invocation ->
+                Stream.of(row(20L, NOW, 1L, 1)).peek(row -> scheduler.onOrderStatusChanged(
+                        OrderStatusChangedEvent.changed(21L, OrderStatus.PENDING, OrderStatus.CONFIRMED))));
+        when(orderRepository.findRowsById(21L)).thenAnswer(invocation -> {
+            // 모아 둔 이벤트를 적용하는 중(잠금 밖)에 다른 주문이 완료된다.
+            scheduler.onOrderStatusChanged(OrderStatusChangedEvent.changed(20L, OrderStatus.PREPARING, OrderStatus.COMPLETED));
+            return List.of(row(21L, NOW, 1L, 1));
+        });
+
+        scheduler.initialize();
+
+        assertThat(scheduler.getWaitingTickets())
+                .extracting(KitchenTicketResponse::getOrderId)
+                .containsExactly(21L);
+    }
+
+    @Test
+    @DisplayName("연장하려는 작업의 주문이 이미 완료되었으면 IllegalStateException")
+    void renew_AfterOrderCompleted_Throws() {
+        confirm(10L, row(10L, NOW, 1L, 1));
+        scheduler.claim("bar-1");
+        scheduler.onOrderStatusChanged(OrderStatusChangedEvent.changed(10L, OrderStatus.PREPARING, OrderStatus.COMPLETED));
+
+        assertThatThrownBy(() -> scheduler.renew(10L, "bar-1"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(scheduler.getClaimedTickets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 스테이션이 동시에 가져가도 각 작업은 한 번만 배정된다.")
+    void claim_UnderContention_HandsOutEachTicketOnce() throws Exception {
+        int orderCount = 500;
+        for (long orderId = 1; orderId <= orderCount; orderId++) {
+            confirm(orderId, row(orderId, NOW.plusSeconds(orderId), 1L, 1));
+        }
+        int stations = 8;
+        List<Long> claimed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(stations);
+        for (int i = 0; i < stations; i++) {
+            String stationId = "bar-" + i;
+            executor.submit(() -> {
+                start.await();
+                Optional<KitchenTicketResponse> ticket;
+                while ((ticket = scheduler.claim(stationId)).isPresent()) {
+                    claimed.add(ticket.get().getOrderId());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(claimed).hasSize(orderCount).doesNotHaveDuplicates();
+        assertThat(scheduler.getClaimedTickets()).hasSize(orderCount);
+        assertThat(scheduler.getWaitingTickets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문을 읽는 사이에 완료되면 읽기가 끝난 뒤 빼므로 완료된 작업이 대기열에 남지 않는다.")
+    void enqueue_CompletedWhileReading_DoesNotLeaveStaleTicket() throws Exception {
+        Thread[] completer = new Thread[1];
+        when(orderRepository.findRowsById(50L)).thenAnswer(invocation -> {
+            completer[0] = new Thread(() -> scheduler.onOrderStatusChanged(
+                    OrderStatusChangedEvent.changed(50L, OrderStatus.CONFIRMED, OrderStatus.COMPLETED)));
+            completer[0].start();
+            // 완료 반영은 주문 잠금에서 기다린다.
+            completer[0].join(200);
+            return List.of(row(50L, NOW, 1L, 1));
+        });
+
+        scheduler.onOrderStatusChanged(OrderStatusChangedEvent.changed(50L, OrderStatus.PENDING, OrderStatus.CONFIRMED));
+        completer[0].join(5_000);
+
+        assertThat(completer[0].isAlive()).isFalse();
+        assertThat(scheduler.getWaitingTickets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 바뀐 주문은 DB의 현재 상태로 대기열에 넣거나 뺀다.")
+    void refresh_AppliesCurrentStatusFromDatabase() {
+        // 확인과 조리 시작이 모두 다른 노드에서 끝난 뒤에 처음 본 주문
+        when(orderRepository.findRowsById(30L)).thenReturn(List.of(row(30L, NOW, 1L, 1, OrderStatus.PREPARING)));
+        scheduler.refresh(30L);
+        assertThat(scheduler.getWaitingTickets())
+                .extracting(KitchenTicketResponse::getOrderId, KitchenTicketResponse::getStatus)
+                .containsExactly(tuple(30L, OrderStatus.PREPARING));
+
+        // 늦게 온 메시지라도 현재 상태가 완료면 뺀다.
+        when(orderRepository.findRowsById(30L)).thenReturn(List.of(row(30L, NOW, 1L, 1, OrderStatus.COMPLETED)));
+        scheduler.refresh(30L);
+        assertThat(scheduler.getWaitingTickets()).isEmpty();
+
+        // 보관되어 행이 없는 주문
+        confirm(31L, row(31L, NOW, 1L, 1));
+        when(orderRepository.findRowsById(31L)).thenReturn(List.of());
+        scheduler.refresh(31L);
+        assertThat(scheduler.getWaitingTickets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 변경은 대기열에 새로 넣을 주문만 한 번에 읽는다.")
+    void onOrderStatusesChanged_ReadsNewTicketsOnce() {
+        confirm(40L, row(40L, NOW, 1L, 1));
+        when(orderRepository.findRowsByIdIn(List.of(41L, 42L))).thenReturn(List.of(
+                row(41L, NOW, 1L, 1), row(41L, NOW, 2L, 1), row(42L, NOW.plusMinutes(1), 1L, 1)));
+
+        scheduler.onOrderStatusesChanged(new OrderStatusesChangedEvent(List.of(
+                OrderStatusChangedEvent.changed(40L, OrderStatus.CONFIRMED, OrderStatus.CANCELLED),
+                OrderStatusChangedEvent.changed(41L, OrderStatus.PENDING, OrderStatus.CONFIRMED),
+                OrderStatusChangedEvent.changed(42L, OrderStatus.PENDING, OrderStatus.CONFIRMED))));
+
+        assertThat(scheduler.getWaitingTickets())
+                .extracting(KitchenTicketResponse::getOrderId, KitchenTicketResponse::getItemCount)
+                .containsExactlyInAnyOrder(tuple(41L, 2), tuple(42L, 1));
+        verify(orderRepository, times(1)).findRowsByIdIn(anyCollection());
+    }
+
+    private KitchenScheduler initialized(KitchenScheduler scheduler) {
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    private void confirm(long orderId, OrderRow... rows) {
+        when(orderRepository.findRowsById(orderId)).thenReturn(List.of(rows));
+        scheduler.onOrderStatusChanged(OrderStatusChangedEvent.changed(orderId, OrderStatus.PENDING, OrderStatus.CONFIRMED));
+    }
+
+    private Long claimedOrderId(String stationId) {
+        return scheduler.claim(stationId).orElseThrow().getOrderId();
+    }
+
+    private static OrderRow row(long orderId, LocalDateTime orderedAt, long menuId, int quantity) {
+        return row(orderId, orderedAt, menuId, quantity, OrderStatus.CONFIRMED);
+    }
+
+    private static OrderRow row(long orderId, LocalDateTime orderedAt, long menuId, int quantity, OrderStatus status) {
+        return new OrderRow(orderId, "김춘식", status, 0, orderedAt, menuId, "메뉴", 4000, quantity);
+    }
+}
@@ -0,0 +1,111 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.event.MenuChangedEvent;
+import com.codeit.cafe.repository.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MenuCatalog 테스트")
+class MenuCatalogTest {
+
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private final StockReservationEngine stockReservationEngine = mock(StockReservationEngine.class);
+    private final MenuCatalog menuCatalog = new MenuCatalog(menuRepository, stockReservationEngine, 60_000);
+
+    private Menu americano;
+    private Menu latte;
+
+    @BeforeEach
+    void setUp() {
+        americano = menu(1L, "아메리카노", 4000, true);
+        latte = menu(2L, "라떼", 4500, true);
+        when(menuRepository.findAll()).thenReturn(List.of(americano, latte));
+        when(stockReservationEngine.isAvailable(any())).thenReturn(true);
+        menuCatalog.reload();
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 메뉴는 DB를 읽지 않고 적중으로 센다.")
+    void findAllById_AllCached_Hits() {
+        Map<Long, Menu> menus = menuCatalog.findAllById(Set.of(1L, 2L));
+
+        assertThat(menus.get(1L)).isSameAs(americano);
+        assertThat(menus.get(2L)).isSameAs(latte);
+        assertThat(menuCatalog.getHitCount()).isEqualTo(2);
+        assertThat(menuCatalog.getMissCount()).isZero();
+        verify(menuRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 메뉴는 그 메뉴만 읽어 스냅샷에 더하고 전체를 다시 읽지 않는다.")
+    void findAllById_NewMenu_LoadsOnlyMissingIds() {
+        Menu cake = menu(3L, "케이크", 6000, true);
+        when(menuRepository.findAllById(List.of(3L))).thenReturn(List.of(cake));
+
+        Map<Long, Menu> menus = menuCatalog.findAllById(List.of(1L, 3L));
+
+        assertThat(menus).containsOnlyKeys(1L, 3L);
+        assertThat(menuCatalog.getHitCount()).isEqualTo(1);
+        assertThat(menuCatalog.getMissCount()).isEqualTo(1);
+        assertThat(menuCatalog.getLoadCount()).isEqualTo(1);
+        assertThat(menuCatalog.getReloadCount()).isEqualTo(1);
+
+        // 더한 메뉴는 이후 적중
+        assertThat(menuCatalog.getAvailableMenu(3L)).isSameAs(cake);
+        verify(menuRepository, times(1)).findAllById(anyIterable());
+        verify(menuRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("DB에도 없는 메뉴 id는 기억해 두고 다시 읽지 않으며, 스냅샷을 다시 적재하면 잊는다.")
+    void findAllById_UnknownId_CachedUntilReload() {
+        when(menuRepository.findAllById(List.of(999L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> menuCatalog.getAvailableMenu(999L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> menuCatalog.getAvailableMenu(999L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(menuCatalog.getMissCount()).isEqualTo(2);
+        assertThat(menuCatalog.getLoadCount()).isEqualTo(1);
+
+        menuCatalog.reload();
+        assertThat(menuCatalog.findAllById(List.of(999L))).isEmpty();
+        assertThat(menuCatalog.getLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("판매 여부나 가격이 바뀌면 커밋 후 이벤트로 스냅샷을 다시 적재한다.")
+    void onMenuChanged_AfterUpdateAvailabilityAndPrice_Reloads() {
+        Menu soldOut = menu(1L, "아메리카노", 4000, false);
+        when(menuRepository.findAll()).thenReturn(List.of(soldOut, latte));
+        menuCatalog.onMenuChanged(new MenuChangedEvent(1L));
+
+        assertThatThrownBy(() -> menuCatalog.getAvailableMenu(1L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(menuCatalog.findAvailableMenus()).containsExactly(latte);
+
+        Menu repriced = menu(2L, "라떼", 5000, true);
+        when(menuRepository.findAll()).thenReturn(List.of(soldOut, repriced));
+        menuCatalog.onMenuChanged(new MenuChangedEvent(2L));
+
+        assertThat(menuCatalog.getAvailableMenu(2L).getPrice()).isEqualTo(5000);
+        assertThat(menuCatalog.getReloadCount()).isEqualTo(3);
+    }
+
+    private static Menu menu(long id, String name, int price, boolean available) {
+        Menu menu = Menu.builder().name(name).price(price).available(available).build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        return menu;
+    }
+}
@@ -0,0 +1,95 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.repository.OrderArchiveRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작은 chunk 로 실행당 옮기는 양을 확인한다. (다른 테스트의 주문이 섞이지 않도록 별도 DB)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archiver-chunk",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "cafe.archive.enabled=false",
+        "cafe.archive.chunk-size=3",
+        "cafe.archive.max-chunks-per-run=2"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("주문 보관 chunk 테스트")
+class OrderArchiverChunkTest {
+
+    private static final int TERMINAL_ORDERS = 10;
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @BeforeEach
+    void setUp() {
+        Menu menu = menuRepository.save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+        for (int i = 0; i < TERMINAL_ORDERS; i++) {
+            orderService.updateOrderStatus(createOrder(menu), OrderStatus.CANCELLED);
+        }
+        createOrder(menu);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 chunk-size x max-chunks-per-run 건까지만 옮기고 나머지는 다음 실행에서 옮긴다.")
+    void archive_StopsAtChunkSizeTimesMaxChunks() {
+        LocalDateTime before = LocalDateTime.now().plusDays(1);
+
+        assertThat(orderArchiver.archive(before)).isEqualTo(6);
+        assertThat(orderArchiveRepository.count()).isEqualTo(6);
+        assertThat(orderRepository.count()).isEqualTo(TERMINAL_ORDERS + 1 - 6);
+
+        assertThat(orderArchiver.archive(before)).isEqualTo(4);
+        assertThat(orderArchiver.archive(before)).isZero();
+        assertThat(orderArchiveRepository.count()).isEqualTo(TERMINAL_ORDERS);
+        assertThat(orderRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("orders 와 보관 테이블을 이어 읽는 동안에는 보관을 건너뛰고, 스트림을 닫으면 다시 옮긴다.")
+    void archive_WhileHotThenArchivedStreamOpen_Skips() {
+        LocalDateTime before = LocalDateTime.now().plusDays(1);
+
+        try (Stream<Integer> stream = orderArchiver.streamHotThenArchived(() -> Stream.of(1), () -> Stream.of(2))) {
+            assertThat(orderArchiver.archive(before)).isZero();
+            assertThat(stream.toList()).containsExactly(1, 2);
+        }
+
+        assertThat(orderArchiver.archive(before)).isEqualTo(6);
+    }
+
+    private long createOrder(Menu menu) {
+        return orderService.createOrder(OrderCreateRequest.builder()
+                .customerName("보관고객")
+                .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(1).build()))
+                .build()).getId();
+    }
+}
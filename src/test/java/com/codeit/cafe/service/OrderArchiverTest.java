@@ -0,0 +1,70 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.repository.OrderArchiveRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@DisplayName("주문 보관 테스트")
+class OrderArchiverTest {
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private OrderResponseCache orderResponseCache;
+
+    @Test
+    @DisplayName("종료된 주문만 보관 테이블로 옮기고, getOrder는 보관된 주문도 그대로 조회한다.")
+    void archive_MovesTerminalOrders_AndGetOrderFallsBack() {
+        Menu menu = menuRepository.save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+        long completedId = createOrder(menu);
+        long pendingId = createOrder(menu);
+        for (OrderStatus status : List.of(OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.COMPLETED)) {
+            orderService.updateOrderStatus(completedId, status);
+        }
+        OrderResponse beforeArchive = orderService.getOrder(completedId);
+
+        int archived = orderArchiver.archive(LocalDateTime.now().plusDays(1));
+
+        assertThat(archived).isGreaterThanOrEqualTo(1);
+        assertThat(orderRepository.existsById(completedId)).isFalse();
+        assertThat(orderArchiveRepository.existsById(completedId)).isTrue();
+        assertThat(orderRepository.existsById(pendingId)).isTrue();
+        // 캐시를 비워야 보관 테이블 조회 경로를 탄다.
+        orderResponseCache.invalidate(completedId);
+        assertThat(orderService.getOrder(completedId)).usingRecursiveComparison().isEqualTo(beforeArchive);
+    }
+
+    private long createOrder(Menu menu) {
+        return orderService.createOrder(OrderCreateRequest.builder()
+                .customerName("보관고객")
+                .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(2).build()))
+                .build()).getId();
+    }
+}
@@ -0,0 +1,75 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderCreateResult;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.support.JdbcBatchCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@DisplayName("주문 일괄 생성 배치 insert 테스트")
+class OrderBatchInsertTest {
+
+    private static final int ORDER_COUNT = 120;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @TestConfiguration
+    static class BatchCountingConfig {
+
+        @Bean
+        static BeanPostProcessor jdbcBatchCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? JdbcBatchCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Test
+    @DisplayName("주문과 주문 항목을 단건 insert 없이 batch_size 단위 JDBC 배치로 저장한다.")
+    void createOrders_InsertsInJdbcBatches() {
+        // given
+        Menu menu = menuRepository.save(Menu.builder().name("배치 아메리카노").price(4000).available(true).build());
+        List<OrderCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            requests.add(OrderCreateRequest.builder()
+                    .customerName("키오스크" + i)
+                    .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(1).build()))
+                    .build());
+        }
+        JdbcBatchCounter.reset();
+
+        // when
+        List<OrderCreateResult> results = orderService.createOrders(requests);
+
+        // then: 주문 120건 + 항목 120건, batch_size 50 -> 테이블별 3번씩
+        assertThat(results).allMatch(OrderCreateResult::isSuccess);
+        assertThat(JdbcBatchCounter.singleInsertCount()).isZero();
+        assertThat(JdbcBatchCounter.addBatchCount()).isEqualTo(ORDER_COUNT * 2);
+        assertThat(JdbcBatchCounter.executeBatchCount()).isBetween(2, 6);
+    }
+}
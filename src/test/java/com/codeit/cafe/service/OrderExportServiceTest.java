@@ -0,0 +1,113 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.Order;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("주문 내보내기 테스트")
+class OrderExportServiceTest {
+
+    // 다른 테스트 주문과 섞이지 않는 기간
+    private static final LocalDateTime FROM = LocalDateTime.of(2031, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+    private static final String TRICKY_NAME = "김\"철수\", 본점\r\n2층";
+
+    @Autowired
+    private OrderExportService orderExportService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Order trickyOrder;
+    private Order plainOrder;
+
+    @BeforeAll
+    void setUp() {
+        Menu americano = menuRepository.save(Menu.builder().name("아메리카노").price(4000).available(true).build());
+        Menu latte = menuRepository.save(Menu.builder().name("라떼, 따뜻하게").price(4500).available(true).build());
+
+        trickyOrder = Order.builder().customerName(TRICKY_NAME).build();
+        trickyOrder.addOrderItem(americano, 2);
+        trickyOrder.addOrderItem(latte, 1);
+        trickyOrder = saveAt(trickyOrder, FROM.plusHours(1));
+
+        plainOrder = Order.builder().customerName("홍길동").build();
+        plainOrder.addOrderItem(americano, 1);
+        plainOrder = saveAt(plainOrder, FROM.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("CSV: 쉼표, 따옴표, CR, LF가 있는 값은 따옴표로 감싸고 따옴표는 두 번 쓴다.")
+    void export_Csv_EscapesFields() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = orderExportService.export(OrderExportService.Format.CSV, FROM, TO, out);
+
+        String quotedName = "\"김\"\"철수\"\", 본점\r\n2층\"";
+        long trickyId = trickyOrder.getId();
+        String orderedAt = "2031-01-01T01:00:00";
+        String expected =
+                "order_id,customer_name,status,total_price,ordered_at,menu_id,menu_name,menu_price,quantity,subtotal\n"
+                        + trickyId + "," + quotedName + ",PENDING,12500," + orderedAt + ","
+                        + trickyOrder.getOrderItems().get(0).getMenu().getId() + ",아메리카노,4000,2,8000\n"
+                        + trickyId + "," + quotedName + ",PENDING,12500," + orderedAt + ","
+                        + trickyOrder.getOrderItems().get(1).getMenu().getId() + ",\"라떼, 따뜻하게\",4500,1,4500\n"
+                        + plainOrder.getId() + ",홍길동,PENDING,4000,2031-01-01T02:00:00,"
+                        + plainOrder.getOrderItems().get(0).getMenu().getId() + ",아메리카노,4000,1,4000\n";
+        assertThat(rows).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("NDJSON: 주문 하나가 한 줄이고 같은 주문의 항목은 그 줄에 모인다.")
+    void export_Ndjson_GroupsItemsPerOrder() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long orders = orderExportService.export(OrderExportService.Format.NDJSON, FROM, TO, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(orders).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(trickyOrder.getId());
+        assertThat(first.get("customerName").asText()).isEqualTo(TRICKY_NAME);
+        assertThat(first.get("totalPrice").asInt()).isEqualTo(12500);
+        assertThat(first.get("orderItems")).hasSize(2);
+        assertThat(first.get("orderItems").get(1).get("subtotal").asInt()).isEqualTo(4500);
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(plainOrder.getId());
+        assertThat(second.get("orderItems")).hasSize(1);
+    }
+
+    private Order saveAt(Order order, LocalDateTime orderedAt) {
+        ReflectionTestUtils.setField(order, "orderedAt", orderedAt);
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,145 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderCreateResult;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderIngestionService 테스트")
+class OrderIngestionServiceTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private OrderIngestionService ingestionService;
+
+    @AfterEach
+    void tearDown() {
+        if (ingestionService != null && ingestionService.isRunning()) {
+            ingestionService.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("최대 그룹 크기만큼 모이면 한 번의 createOrders로 커밋하고 각 future를 완료한다.")
+    void submit_GroupsOrdersIntoOneCommit() throws Exception {
+        // given: 최대 대기 시간은 길게, 그룹 크기 3
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> successes(invocation.getArgument(0)));
+        ingestionService = start(100, 3, 5_000, 100);
+
+        // when
+        List<CompletableFuture<OrderResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(ingestionService.submit(request("고객" + i)));
+        }
+
+        // then
+        for (int i = 0; i < 3; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getCustomerName()).isEqualTo("고객" + i);
+        }
+        verify(orderService, times(1)).createOrders(argThat(requests -> requests.size() == 3));
+    }
+
+    @Test
+    @DisplayName("그룹 커밋에서 실패한 주문은 원래 예외로 future를 끝낸다. (존재하지 않는 메뉴는 IllegalArgumentException 그대로)")
+    void submit_FailedResult_CompletesWithOriginalException() {
+        IllegalArgumentException missingMenu = new IllegalArgumentException("존재하지 않는 메뉴입니다.[999]");
+        when(orderService.createOrders(anyList()))
+                .thenAnswer(invocation -> List.of(OrderCreateResult.failure(0, missingMenu)));
+        ingestionService = start(100, 1, 5_000, 100);
+
+        CompletableFuture<OrderResponse> future = ingestionService.submit(request("고객"));
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isSameAs(missingMenu);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 offer-timeout 뒤에 RejectedExecutionException으로 거절한다.")
+    void submit_WhenQueueFull_RejectsAfterTimeout() throws Exception {
+        // given: writer가 첫 그룹 커밋에서 멈춰 있고 대기열(크기 1)이 찬 상태
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            committing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return successes(invocation.getArgument(0));
+        });
+        ingestionService = start(1, 1, 1, 50);
+        CompletableFuture<OrderResponse> first = ingestionService.submit(request("첫 주문"));
+        assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<OrderResponse> queued = ingestionService.submit(request("대기 주문"));
+
+        // when & then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> ingestionService.submit(request("거절 주문")))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("대기열이 가득 찼습니다");
+        assertThat(System.nanoTime() - startedAt).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("stop은 남은 주문을 모두 커밋한 뒤 끝나고, 그 뒤의 접수는 거절한다.")
+    void stop_CommitsQueuedOrdersThenRejects() throws Exception {
+        // given: 그룹 크기가 커서 stop 전까지 최대 대기 시간 동안 모으는 중
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> successes(invocation.getArgument(0)));
+        ingestionService = start(100, 100, 1_000, 100);
+        List<CompletableFuture<OrderResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(ingestionService.submit(request("고객" + i)));
+        }
+
+        // when
+        ingestionService.stop();
+
+        // then
+        assertThat(futures).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        assertThat(ingestionService.getQueueSize()).isZero();
+        assertThatThrownBy(() -> ingestionService.submit(request("늦은 주문")))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private OrderIngestionService start(int queueCapacity, int maxBatchSize, long maxDelayMillis,
+                                        long offerTimeoutMillis) {
+        OrderIngestionService service = new OrderIngestionService(orderService, new IdempotencyCache(100, 60),
+                queueCapacity, maxBatchSize, maxDelayMillis, offerTimeoutMillis);
+        service.start();
+        return service;
+    }
+
+    private static List<OrderCreateResult> successes(List<OrderCreateRequest> requests) {
+        List<OrderCreateResult> results = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(OrderCreateResult.success(i, OrderResponse.builder()
+                    .id((long) i + 1)
+                    .customerName(requests.get(i).getCustomerName())
+                    .build()));
+        }
+        return results;
+    }
+
+    private static OrderCreateRequest request(String customerName) {
+        return OrderCreateRequest.builder()
+                .customerName(customerName)
+                .orderItems(List.of(OrderItemRequest.builder().menuId(1L).quantity(1).build()))
+                .build();
+    }
+}
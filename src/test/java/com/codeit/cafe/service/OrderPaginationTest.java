@@ -0,0 +1,99 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Order;
+import com.codeit.cafe.dto.OrderPageResponse;
+import com.codeit.cafe.dto.OrderSummaryResponse;
+import com.codeit.cafe.repository.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@DisplayName("키셋 페이지네이션 테스트")
+class OrderPaginationTest {
+
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("orderedAt이 같은 주문이 페이지 경계에 걸려도 빠지거나 중복되지 않고 (orderedAt, id) 순서로 이어진다.")
+    void getOrdersByCustomer_EqualOrderedAt_ContinuesAcrossPages() {
+        // given: 5건은 같은 시각, 2건은 그보다 이르거나 늦은 시각
+        String customerName = "페이지고객-동시각";
+        List<Order> orders = new ArrayList<>();
+        orders.add(saveOrder(customerName, SAME_TIME.plusMinutes(1)));
+        for (int i = 0; i < 5; i++) {
+            orders.add(saveOrder(customerName, SAME_TIME));
+        }
+        orders.add(saveOrder(customerName, SAME_TIME.minusMinutes(1)));
+        List<Long> expectedIds = orders.stream()
+                .sorted(Comparator.comparing(Order::getOrderedAt).thenComparing(Order::getId))
+                .map(Order::getId)
+                .toList();
+
+        // when
+        List<OrderPageResponse> pages = readAllPages(customerName, 2);
+
+        // then: 2 + 2 + 2 + 1
+        assertThat(pages).extracting(page -> page.getOrders().size()).containsExactly(2, 2, 2, 1);
+        assertThat(pages).extracting(OrderPageResponse::isHasNext).containsExactly(true, true, true, false);
+        assertThat(pages.stream().flatMap(page -> page.getOrders().stream()).map(OrderSummaryResponse::getId))
+                .containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    @DisplayName("남은 주문 수가 페이지 크기와 정확히 같으면 그 페이지에서 hasNext가 false다. (size + 1건 조회)")
+    void getOrdersByCustomer_ExactMultipleOfSize_LastPageHasNoNext() {
+        // given
+        String customerName = "페이지고객-배수";
+        for (int i = 0; i < 4; i++) {
+            saveOrder(customerName, SAME_TIME.plusSeconds(i));
+        }
+
+        // when
+        List<OrderPageResponse> pages = readAllPages(customerName, 2);
+
+        // then
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(0).isHasNext()).isTrue();
+        assertThat(pages.get(0).getNextId()).isEqualTo(pages.get(0).getOrders().get(1).getId());
+        assertThat(pages.get(1).getOrders()).hasSize(2);
+        assertThat(pages.get(1).isHasNext()).isFalse();
+        assertThat(pages.get(1).getNextOrderedAt()).isNull();
+        assertThat(pages.get(1).getNextId()).isNull();
+    }
+
+    private List<OrderPageResponse> readAllPages(String customerName, int size) {
+        List<OrderPageResponse> pages = new ArrayList<>();
+        OrderPageResponse page = orderService.getOrdersByCustomer(customerName, null, null, size);
+        pages.add(page);
+        while (page.isHasNext()) {
+            page = orderService.getOrdersByCustomer(customerName, page.getNextOrderedAt(), page.getNextId(), size);
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    private Order saveOrder(String customerName, LocalDateTime orderedAt) {
+        Order order = Order.builder().customerName(customerName).build();
+        ReflectionTestUtils.setField(order, "orderedAt", orderedAt);
+        return orderRepository.save(order);
+    }
+}
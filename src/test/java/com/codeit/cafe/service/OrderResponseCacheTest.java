@@ -0,0 +1,81 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderResponseCache 테스트")
+class OrderResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("저장한 응답을 그대로 돌려주고 적중률을 기록한다.")
+    void get_AfterPut_ReturnsResponse() {
+        OrderResponseCache cache = new OrderResponseCache(meterRegistry, 10, 60, 60);
+        OrderResponse response = order(1L, OrderStatus.PENDING);
+
+        assertThat(cache.get(1L)).isNull();
+        cache.put(1L, response, cache.stamp(1L));
+
+        assertThat(cache.get(1L)).usingRecursiveComparison().isEqualTo(response);
+        assertThat(meterRegistry.get("cafe.order.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("조회 중에 상태 변경이 커밋되면 조회한 응답은 저장하지 않는다.")
+    void put_AfterInvalidation_IsDiscarded() {
+        OrderResponseCache cache = new OrderResponseCache(meterRegistry, 10, 60, 60);
+        long stamp = cache.stamp(1L);
+
+        cache.onOrderStatusChanged(OrderStatusChangedEvent.changed(1L, OrderStatus.PENDING, OrderStatus.PREPARING));
+        cache.put(1L, order(1L, OrderStatus.PENDING), stamp);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 주문부터 뺀다.")
+    void put_OverMaxSize_EvictsLeastRecentlyUsed() {
+        OrderResponseCache cache = new OrderResponseCache(meterRegistry, 2, 60, 60);
+        cache.put(1L, order(1L, OrderStatus.PENDING), cache.stamp(1L));
+        cache.put(2L, order(2L, OrderStatus.PENDING), cache.stamp(2L));
+        cache.get(1L);
+
+        cache.put(3L, order(3L, OrderStatus.PENDING), cache.stamp(3L));
+
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(3L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("종료된 주문은 진행 중 주문보다 오래 보관한다.")
+    void put_TerminalOrder_UsesTerminalTtl() {
+        OrderResponseCache cache = new OrderResponseCache(meterRegistry, 10, 0, 60);
+        cache.put(1L, order(1L, OrderStatus.PREPARING), cache.stamp(1L));
+        cache.put(2L, order(2L, OrderStatus.COMPLETED), cache.stamp(2L));
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNotNull();
+    }
+
+    private static OrderResponse order(long id, OrderStatus status) {
+        return OrderResponse.builder()
+                .id(id)
+                .customerName("홍길동")
+                .status(status)
+                .orderItems(List.of())
+                .totalPrice(0)
+                .orderedAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.support.SqlStatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.codeit.cafe.support.SqlStatementCounter")
+@DisplayName("OrderService 쿼리 수 테스트")
+class OrderServiceQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Test
+    @DisplayName("카탈로그에 없는 메뉴는 항목 수와 상관없이 한 번에 읽어 온다.")
+    void createOrder_WithManyNewMenus_LoadsMenusInBatch() {
+        // given: 스냅샷은 메뉴를 추가하기 전에 적재되어 있다.
+        menuCatalog.reload();
+        OrderCreateRequest request = cateringOrder();
+        long reloadsBefore = menuCatalog.getReloadCount();
+
+        SqlStatementCounter.reset();
+
+        // when
+        OrderResponse response = orderService.createOrder(request);
+
+        // then: 누락된 메뉴만 한 번에 읽어 스냅샷에 더한다. (전체 재적재 없음)
+        assertThat(response.getOrderItems()).hasSize(12);
+        assertThat(SqlStatementCounter.selectCount()).isEqualTo(1);
+        assertThat(menuCatalog.getReloadCount()).isEqualTo(reloadsBefore);
+    }
+
+    @Test
+    @DisplayName("카탈로그에 적재된 메뉴는 쿼리 없이 메모리에서 조회한다.")
+    void createOrder_WithCachedMenus_IssuesNoMenuQuery() {
+        // given
+        OrderCreateRequest request = cateringOrder();
+        menuCatalog.reload();
+        long hitsBefore = menuCatalog.getHitCount();
+
+        SqlStatementCounter.reset();
+
+        // when
+        OrderResponse response = orderService.createOrder(request);
+
+        // then
+        assertThat(response.getOrderItems()).hasSize(12);
+        assertThat(SqlStatementCounter.selectCount()).isZero();
+        assertThat(menuCatalog.getHitCount() - hitsBefore).isEqualTo(12);
+    }
+
+    private OrderCreateRequest cateringOrder() {
+        List<OrderItemRequest> itemRequests = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Menu menu = menuRepository.save(Menu.builder()
+                    .name("케이터링 메뉴 " + i)
+                    .price(3000 + i * 100)
+                    .available(true)
+                    .build());
+            itemRequests.add(OrderItemRequest.builder()
+                    .menuId(menu.getId())
+                    .quantity(2)
+                    .build());
+        }
+
+        return OrderCreateRequest.builder()
+                .customerName("케이터링 고객")
+                .orderItems(itemRequests)
+                .build();
+    }
+}
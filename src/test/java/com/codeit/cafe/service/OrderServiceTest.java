@@ -2,12 +2,20 @@ package com.codeit.cafe.service;
 
 import com.codeit.cafe.domain.OrderStatus;
 import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderCreateResult;
 import com.codeit.cafe.dto.OrderItemRequest;
 import com.codeit.cafe.dto.OrderResponse;
-import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.dto.OrderStatusUpdateResult;
+import com.codeit.cafe.dto.OrderStatusUpdateResult.Outcome;
 import com.codeit.cafe.domain.Menu;
 import com.codeit.cafe.domain.Order;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.OrderArchiveRepository;
 import com.codeit.cafe.repository.OrderRepository;
+import com.codeit.cafe.repository.OrderStatusView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,13 +24,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 
@@ -33,7 +50,19 @@ public class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
     @Mock
-    private MenuRepository menuRepository;
+    private OrderArchiveRepository orderArchiveRepository;
+    @Mock
+    private MenuCatalog menuCatalog;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private StockReservationEngine stockReservationEngine;
+    @Mock
+    private OrderResponseCache orderResponseCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private IdempotencyCache idempotencyCache = new IdempotencyCache(100, 60);
 
     @InjectMocks
     private OrderService orderService;
@@ -54,6 +83,9 @@ public class OrderServiceTest {
                 .price(4500)
                 .available(true)
                 .build();
+
+        ReflectionTestUtils.setField(americano, "id", 1L);
+        ReflectionTestUtils.setField(latte, "id", 2L);
     }
 
     @Nested
@@ -64,8 +96,8 @@ public class OrderServiceTest {
         @DisplayName("성공: 단일 메뉴를 주문할 수 있다.")
         void createOrder_WithSingleMenu_Success() {
             // given
-            when(menuRepository.findById(1L))
-                    .thenReturn(Optional.of(americano));
+            when(menuCatalog.findAllById(Set.of(1L)))
+                    .thenReturn(Map.of(1L, americano));
 
             // orderRepository가 주문을 save하면 save한 내용 그대로 반환하는 설정
             when(orderRepository.save(any(Order.class)))
@@ -96,19 +128,42 @@ public class OrderServiceTest {
             assertThat(response.getTotalPrice()).isEqualTo(8000);
             assertThat(response.getStatus()).isEqualTo(OrderStatus.PENDING);
 
-            verify(menuRepository, times(1)).findById(1L);
+            verify(menuCatalog, times(1)).findAllById(Set.of(1L));
             verify(orderRepository, times(1)).save(any(Order.class));
 
         }
 
+        @Test
+        @DisplayName("성공: 같은 멱등 키로 다시 주문하면 처음 응답을 돌려주고 주문은 한 번만 저장한다.")
+        void createOrder_WithSameIdempotencyKey_ReturnsFirstResponse() {
+            // given
+            when(menuCatalog.findAllById(Set.of(1L)))
+                    .thenReturn(Map.of(1L, americano));
+            when(orderRepository.save(any(Order.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            OrderCreateRequest request = OrderCreateRequest.builder()
+                    .customerName("김춘식")
+                    .orderItems(List.of(OrderItemRequest.builder().menuId(1L).quantity(2).build()))
+                    .idempotencyKey("retry-key-1")
+                    .build();
+
+            // when
+            OrderResponse first = orderService.createOrder(request);
+            OrderResponse retried = orderService.createOrder(request);
+
+            // then
+            assertThat(retried).isSameAs(first);
+            verify(orderRepository, times(1)).save(any(Order.class));
+            verify(menuCatalog, times(1)).findAllById(Set.of(1L));
+        }
+
         @Test
         @DisplayName("성공: 여러 메뉴를 주문할 수 있다.")
         void createOrder_WithMultipleMenus_Success() {
             // given
-            when(menuRepository.findById(1L))
-                    .thenReturn(Optional.of(americano));
-            when(menuRepository.findById(2L))
-                    .thenReturn(Optional.of(latte));
+            when(menuCatalog.findAllById(Set.of(1L, 2L)))
+                    .thenReturn(Map.of(1L, americano, 2L, latte));
 
             // orderRepository가 주문을 save하면 save한 내용 그대로 반환하는 설정
             when(orderRepository.save(any(Order.class)))
@@ -139,7 +194,9 @@ public class OrderServiceTest {
             assertThat(response.getTotalPrice()).isEqualTo(13000);
             assertThat(response.getStatus()).isEqualTo(OrderStatus.PENDING);
 
-            verify(menuRepository, times(1)).findById(1L);
+            // 메뉴 수와 상관없이 메뉴 조회는 한 번만 일어나야 한다.
+            verify(menuCatalog, times(1)).findAllById(Set.of(1L, 2L));
+            verify(menuCatalog, never()).getAvailableMenu(anyLong());
             verify(orderRepository, times(1)).save(any(Order.class));
 
         }
@@ -148,8 +205,8 @@ public class OrderServiceTest {
         @DisplayName("실패: 존재하지 않는 메뉴라면 주문이 실패해야 한다.")
         void createOrder_WithNonExistentMenu_ThrowsException() {
             // given
-            when(menuRepository.findById(999L))
-                    .thenReturn(Optional.empty());
+            when(menuCatalog.findAllById(Set.of(999L)))
+                    .thenReturn(Map.of());
 
             // 주문 요청 DTO 생성
             OrderItemRequest itemRequest = OrderItemRequest.builder()
@@ -182,7 +239,9 @@ public class OrderServiceTest {
                     .available(false)
                     .build();
 
-            when(menuRepository.findById(1L)).thenReturn(Optional.of(unavailableMenu));
+            ReflectionTestUtils.setField(unavailableMenu, "id", 1L);
+
+            when(menuCatalog.findAllById(Set.of(1L))).thenReturn(Map.of(1L, unavailableMenu));
 
             OrderCreateRequest request = OrderCreateRequest.builder()
                     .customerName("홍길동")
@@ -198,6 +257,77 @@ public class OrderServiceTest {
 
             verify(orderRepository, never()).save(any(Order.class));
         }
+
+        @Test
+        @DisplayName("실패: 존재하지 않는 메뉴와 판매 불가능한 메뉴를 한 번에 알려준다.")
+        void createOrder_WithMissingAndUnavailableMenus_ReportsAllAtOnce() {
+            // Given
+            Menu unavailableMenu = Menu.builder()
+                    .name("품절 메뉴")
+                    .price(5000)
+                    .available(false)
+                    .build();
+            ReflectionTestUtils.setField(unavailableMenu, "id", 3L);
+
+            when(menuCatalog.findAllById(Set.of(1L, 3L, 998L, 999L)))
+                    .thenReturn(Map.of(1L, americano, 3L, unavailableMenu));
+
+            OrderCreateRequest request = OrderCreateRequest.builder()
+                    .customerName("홍길동")
+                    .orderItems(List.of(
+                            OrderItemRequest.builder().menuId(1L).quantity(1).build(),
+                            OrderItemRequest.builder().menuId(998L).quantity(1).build(),
+                            OrderItemRequest.builder().menuId(3L).quantity(1).build(),
+                            OrderItemRequest.builder().menuId(999L).quantity(1).build()
+                    ))
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> orderService.createOrder(request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("존재하지 않는 메뉴입니다.[998, 999]")
+                    .hasMessageContaining("주문할 수 없는 메뉴입니다.[품절 메뉴]");
+
+            verify(menuCatalog, times(1)).findAllById(any());
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 일괄 생성")
+    class CreateOrders {
+
+        @Test
+        @DisplayName("성공: 주문별로 성공/실패 결과를 돌려주고 성공한 주문만 한 번에 저장한다.")
+        void createOrders_WithPartialFailure_ReturnsPerOrderResults() {
+            // Given
+            when(menuCatalog.findAllById(Set.of(1L))).thenReturn(Map.of(1L, americano));
+            when(menuCatalog.findAllById(Set.of(999L))).thenReturn(Map.of());
+            when(orderRepository.saveAll(anyList()))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            OrderCreateRequest valid = OrderCreateRequest.builder()
+                    .customerName("키오스크1")
+                    .orderItems(List.of(OrderItemRequest.builder().menuId(1L).quantity(3).build()))
+                    .build();
+            OrderCreateRequest invalid = OrderCreateRequest.builder()
+                    .customerName("키오스크2")
+                    .orderItems(List.of(OrderItemRequest.builder().menuId(999L).quantity(1).build()))
+                    .build();
+
+            // When
+            List<OrderCreateResult> results = orderService.createOrders(List.of(valid, invalid));
+
+            // Then
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(0).getOrder().getTotalPrice()).isEqualTo(12000);
+            assertThat(results.get(1).isSuccess()).isFalse();
+            assertThat(results.get(1).getErrorMessage()).contains("존재하지 않는 메뉴");
+
+            verify(orderRepository, times(1)).saveAll(argThat(orders -> ((List<?>) orders).size() == 1));
+            verify(orderRepository, never()).save(any(Order.class));
+        }
     }
 
     @Nested
@@ -212,8 +342,11 @@ public class OrderServiceTest {
                     .customerName("홍길동")
                     .build();
             order.addOrderItem(americano, 2);
+            ReflectionTestUtils.setField(order, "id", 1L);
 
-            when(orderRepository.findByIdWithItems(1L)).thenReturn(order);
+            when(orderRepository.findRowsById(1L)).thenReturn(List.of(
+                    new OrderRow(1L, "홍길동", OrderStatus.PENDING, 8000, order.getOrderedAt(),
+                            1L, "아메리카노", 4000, 2)));
 
             // When
             OrderResponse response = orderService.getOrder(1L);
@@ -222,15 +355,17 @@ public class OrderServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.getCustomerName()).isEqualTo("홍길동");
             assertThat(response.getOrderItems()).hasSize(1);
+            // 엔티티로 만든 응답과 같아야 한다.
+            assertThat(response).usingRecursiveComparison().isEqualTo(OrderResponse.from(order));
 
-            verify(orderRepository, times(1)).findByIdWithItems(1L);
+            verify(orderRepository, times(1)).findRowsById(1L);
         }
 
         @Test
         @DisplayName("실패: 존재하지 않는 주문")
         void getOrder_WithNonExistentId_ThrowsException() {
             // Given
-            when(orderRepository.findByIdWithItems(999L)).thenReturn(null);
+            when(orderRepository.findRowsById(999L)).thenReturn(List.of());
 
             // When & Then
             assertThatThrownBy(() -> orderService.getOrder(999L))
@@ -260,6 +395,7 @@ public class OrderServiceTest {
                 // Then
                 assertThat(response.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
                 verify(orderRepository, times(1)).save(order);
+                verify(eventPublisher, times(1)).publishEvent(any(OrderStatusChangedEvent.class));
             }
 
             @Test
@@ -325,20 +461,143 @@ public class OrderServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("주문 조회 캐시")
+    class GetOrderCache {
+
+        private OrderResponseCache cache;
+        private OrderService service;
 
+        @BeforeEach
+        void setUp() {
+            cache = new OrderResponseCache(new SimpleMeterRegistry(), 10, 60, 60);
+            service = new OrderService(orderRepository, orderArchiveRepository, menuCatalog, eventPublisher,
+                    idempotencyCache, stockReservationEngine, cache, transactionManager);
+        }
 
-}
+        @Test
+        @DisplayName("처음 조회한 응답을 캐시에 넣고, 다음 조회는 DB를 읽지 않는다.")
+        void getOrder_SecondCall_HitsCache() {
+            when(orderRepository.findRowsById(1L)).thenReturn(List.of(row(1L, OrderStatus.PENDING)));
+
+            OrderResponse first = service.getOrder(1L);
+            OrderResponse second = service.getOrder(1L);
+
+            assertThat(second).usingRecursiveComparison().isEqualTo(first);
+            assertThat(cache.size()).isEqualTo(1);
+            verify(orderRepository, times(1)).findRowsById(1L);
+            verify(transactionManager, times(1)).getTransaction(any());
+        }
+
+        @Test
+        @DisplayName("상태 변경이 커밋되면 캐시에서 빠지고 다음 조회는 바뀐 상태를 읽는다.")
+        void getOrder_AfterStatusChanged_ReadsAgain() {
+            when(orderRepository.findRowsById(1L)).thenReturn(
+                    List.of(row(1L, OrderStatus.PENDING)),
+                    List.of(row(1L, OrderStatus.CONFIRMED)));
+            service.getOrder(1L);
 
+            cache.onOrderStatusChanged(OrderStatusChangedEvent.changed(1L, OrderStatus.PENDING, OrderStatus.CONFIRMED));
 
+            assertThat(service.getOrder(1L).getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+            verify(orderRepository, times(2)).findRowsById(1L);
+        }
 
+        @Test
+        @DisplayName("조회하는 사이에 상태가 바뀌면 읽은 응답을 캐시에 넣지 않는다.")
+        void getOrder_InvalidatedDuringRead_DoesNotCache() {
+            when(orderRepository.findRowsById(1L)).thenAnswer(invocation -> {
+                cache.onOrderStatusChanged(OrderStatusChangedEvent.changed(1L, OrderStatus.PENDING, OrderStatus.CONFIRMED));
+                return List.of(row(1L, OrderStatus.PENDING));
+            });
 
+            service.getOrder(1L);
 
+            assertThat(cache.size()).isZero();
+        }
 
+        @Test
+        @DisplayName("orders에 없으면 같은 읽기 전용 트랜잭션에서 보관 테이블을 읽는다.")
+        void getOrder_Archived_FallsBackInOneTransaction() {
+            when(orderArchiveRepository.findRowsById(1L)).thenReturn(List.of(row(1L, OrderStatus.COMPLETED)));
 
+            assertThat(service.getOrder(1L).getStatus()).isEqualTo(OrderStatus.COMPLETED);
+            verify(transactionManager, times(1)).getTransaction(argThat(definition -> definition.isReadOnly()));
+        }
 
+        private OrderRow row(long orderId, OrderStatus status) {
+            return new OrderRow(orderId, "홍길동", status, 8000, LocalDateTime.of(2024, 1, 1, 9, 0),
+                    1L, "아메리카노", 4000, 2);
+        }
+    }
 
+    @Nested
+    @DisplayName("주문 상태 일괄 변경")
+    class UpdateOrderStatuses {
 
+        @Test
+        @DisplayName("주문별로 UPDATED, NOT_FOUND, INVALID_TRANSITION을 돌려주고 바뀐 주문에만 이벤트를 발행한다.")
+        void updateOrderStatuses_ReturnsOutcomePerOrder() {
+            // Given
+            when(orderRepository.findStatusesByIdIn(any())).thenReturn(List.of(
+                    statusView(1L, OrderStatus.PENDING),
+                    statusView(2L, OrderStatus.COMPLETED)));
+            when(orderRepository.lockIdsByStatus(List.of(1L), "PENDING"))
+                    .thenReturn(List.of(1L));
 
+            // When
+            List<OrderStatusUpdateResult> results =
+                    orderService.updateOrderStatuses(List.of(1L, 2L, 3L), OrderStatus.CONFIRMED);
 
+            // Then
+            assertThat(results).extracting(OrderStatusUpdateResult::getOrderId, OrderStatusUpdateResult::getOutcome)
+                    .containsExactly(
+                            tuple(1L, Outcome.UPDATED),
+                            tuple(2L, Outcome.INVALID_TRANSITION),
+                            tuple(3L, Outcome.NOT_FOUND));
+            verify(orderRepository).updateStatuses(Set.of(1L), OrderStatus.CONFIRMED);
+            verify(eventPublisher, times(1)).publishEvent(any(OrderStatusesChangedEvent.class));
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof OrderStatusesChangedEvent batch
+                    && batch.getChanges().size() == 1
+                    && batch.getChanges().get(0).getOrderId() == 1L
+                    && batch.getChanges().get(0).getPreviousStatus() == OrderStatus.PENDING));
+        }
+
+        @Test
+        @DisplayName("조회 이후 다른 요청이 같은 상태로 먼저 바꾼 주문은 CONFLICT이고 이벤트를 다시 발행하지 않는다.")
+        void updateOrderStatuses_ConcurrentSameTarget_ReportsConflictWithoutEvent() {
+            // Given: 2번 주문은 다른 요청이 먼저 CANCELLED로 바꿔서 이 UPDATE에서는 변경되지 않았다.
+            when(orderRepository.findStatusesByIdIn(any())).thenReturn(List.of(
+                    statusView(1L, OrderStatus.PENDING),
+                    statusView(2L, OrderStatus.PENDING)));
+            when(orderRepository.lockIdsByStatus(List.of(1L, 2L), "PENDING"))
+                    .thenReturn(List.of(1L));
 
+            // When
+            List<OrderStatusUpdateResult> results =
+                    orderService.updateOrderStatuses(List.of(1L, 2L), OrderStatus.CANCELLED);
 
+            // Then
+            assertThat(results).extracting(OrderStatusUpdateResult::getOutcome)
+                    .containsExactly(Outcome.UPDATED, Outcome.CONFLICT);
+            verify(orderRepository).updateStatuses(Set.of(1L), OrderStatus.CANCELLED);
+            verify(eventPublisher, times(1)).publishEvent(any(OrderStatusesChangedEvent.class));
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof OrderStatusesChangedEvent batch
+                    && batch.getChanges().size() == 1 && batch.getChanges().get(0).getOrderId() == 1L));
+        }
+
+        private OrderStatusView statusView(long id, OrderStatus status) {
+            return new OrderStatusView() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public OrderStatus getStatus() {
+                    return status;
+                }
+            };
+        }
+    }
+}
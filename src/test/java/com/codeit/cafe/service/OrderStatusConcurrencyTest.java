@@ -0,0 +1,217 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.Order;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderStatusUpdateResult;
+import com.codeit.cafe.dto.OrderStatusUpdateResult.Outcome;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@Import(OrderStatusConcurrencyTest.CancelledEventCounter.class)
+@DisplayName("주문 상태 동시 변경 테스트")
+class OrderStatusConcurrencyTest {
+
+    private static final int ORDER_COUNT = 20;
+    private static final int THREADS_PER_ORDER = 8;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private CancelledEventCounter cancelledEventCounter;
+
+    /**
+     * 커밋된 CANCELLED 이벤트를 주문별로 센다. (재고 반환 같은 후속 처리가 받는 이벤트)
+     */
+    @TestConfiguration
+    static class CancelledEventCounter {
+
+        private final ConcurrentMap<Long, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        @TransactionalEventListener
+        public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+            if (event.getStatus() == OrderStatus.CANCELLED) {
+                counts.computeIfAbsent(event.getOrderId(), id -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+
+        @TransactionalEventListener
+        public void onOrderStatusesChanged(OrderStatusesChangedEvent event) {
+            event.getChanges().forEach(this::onOrderStatusChanged);
+        }
+
+        int count(long orderId) {
+            AtomicInteger count = counts.get(orderId);
+            return count != null ? count.get() : 0;
+        }
+    }
+
+    private List<Long> orderIds;
+
+    @BeforeEach
+    void setUp() {
+        Menu menu = menuRepository.save(Menu.builder()
+                .name("아메리카노")
+                .price(4000)
+                .available(true)
+                .build());
+
+        orderIds = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            OrderCreateRequest request = OrderCreateRequest.builder()
+                    .customerName("고객" + i)
+                    .orderItems(List.of(OrderItemRequest.builder().menuId(menu.getId()).quantity(1).build()))
+                    .build();
+            orderIds.add(orderService.createOrder(request).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("같은 주문을 여러 스레드가 동시에 확인해도 한 번만 성공한다.")
+    void updateOrderStatus_RacingThreads_OnlyOneWins() throws Exception {
+        // given
+        ConcurrentMap<Long, AtomicInteger> successes = new ConcurrentHashMap<>();
+        AtomicInteger unexpectedFailures = new AtomicInteger();
+
+        // when
+        race(orderId -> {
+            try {
+                orderService.updateOrderStatus(orderId, OrderStatus.CONFIRMED);
+                successes.computeIfAbsent(orderId, id -> new AtomicInteger()).incrementAndGet();
+            } catch (IllegalStateException | ConcurrencyFailureException e) {
+                // 이미 확인된 주문이거나 재시도 횟수 초과
+            } catch (RuntimeException e) {
+                unexpectedFailures.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(unexpectedFailures).hasValue(0);
+        for (Long orderId : orderIds) {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            assertThat(successes.get(orderId)).hasValue(1);
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+            assertThat(order.getVersion()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("조건부 상태 변경이 경쟁하면 정확히 하나만 반영된다.")
+    void transitionOrderStatus_RacingTransitions_ExactlyOneApplied() throws Exception {
+        // given
+        orderIds.forEach(orderId -> orderService.transitionOrderStatus(orderId, OrderStatus.PENDING, OrderStatus.CONFIRMED));
+        ConcurrentMap<Long, OrderStatus> winners = new ConcurrentHashMap<>();
+        AtomicInteger wins = new AtomicInteger();
+        AtomicInteger counter = new AtomicInteger();
+
+        // when: 준비 시작과 취소가 같은 주문을 두고 경쟁
+        race(orderId -> {
+            OrderStatus target = counter.getAndIncrement() % 2 == 0 ? OrderStatus.PREPARING : OrderStatus.CANCELLED;
+            if (orderService.transitionOrderStatus(orderId, OrderStatus.CONFIRMED, target)) {
+                wins.incrementAndGet();
+                winners.put(orderId, target);
+            }
+        });
+
+        // then
+        assertThat(wins).hasValue(ORDER_COUNT);
+        for (Long orderId : orderIds) {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            assertThat(order.getStatus()).isEqualTo(winners.get(orderId));
+            assertThat(order.getVersion()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 취소가 같은 주문을 두고 경쟁해도 주문마다 한 요청만 UPDATED이고 이벤트는 한 번만 발행된다.")
+    void updateOrderStatuses_RacingBulkCancels_PublishOneEventPerOrder() throws Exception {
+        // given
+        int requests = THREADS_PER_ORDER;
+        ConcurrentMap<Long, AtomicInteger> updatedCounts = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<List<OrderStatusUpdateResult>>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return orderService.updateOrderStatuses(orderIds, OrderStatus.CANCELLED);
+                }));
+            }
+            start.countDown();
+            for (Future<List<OrderStatusUpdateResult>> future : futures) {
+                for (OrderStatusUpdateResult result : future.get(30, TimeUnit.SECONDS)) {
+                    if (result.getOutcome() == Outcome.UPDATED) {
+                        updatedCounts.computeIfAbsent(result.getOrderId(), id -> new AtomicInteger()).incrementAndGet();
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then: 늦은 요청은 CONFLICT(UPDATE 직전 경쟁) 또는 INVALID_TRANSITION(이미 취소된 뒤 조회)
+        for (Long orderId : orderIds) {
+            assertThat(updatedCounts.get(orderId)).hasValue(1);
+            assertThat(cancelledEventCounter.count(orderId)).isEqualTo(1);
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(order.getVersion()).isEqualTo(1L);
+        }
+    }
+
+    private void race(LongConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_PER_ORDER * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (Long orderId : orderIds) {
+                for (int i = 0; i < THREADS_PER_ORDER; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        task.accept(orderId);
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderRow;
+import com.codeit.cafe.dto.SalesBucketResponse;
+import com.codeit.cafe.event.OrderStatusChangedEvent;
+import com.codeit.cafe.event.OrderStatusesChangedEvent;
+import com.codeit.cafe.repository.OrderArchiveRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SalesRollup 테스트")
+class SalesRollupTest {
+
+    private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDate DAY = ORDERED_AT.toLocalDate();
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderArchiveRepository orderArchiveRepository = mock(OrderArchiveRepository.class);
+    private final OrderArchiver orderArchiver = new OrderArchiver(orderRepository, orderArchiveRepository,
+            mock(PlatformTransactionManager.class), false, 30, 500, 20);
+    private final SalesRollup salesRollup = new SalesRollup(orderRepository, orderArchiveRepository, orderArchiver,
+            mock(MenuCatalog.class), mock(PlatformTransactionManager.class), 35);
+
+    @Test
+    @DisplayName("초기화 스캔 중 완료된 주문이 스캔에도 잡히면 한 번만 집계한다.")
+    void initialize_EventDuringScanForScannedOrder_CountsOnce() {
+        when(orderRepository.findRowsById(1L)).thenReturn(List.of(row(1L, 2, 1000)));
+        when(orderRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenAnswer(invocation ->
+                Stream.of(row(1L, 2, 1000)).peek(row -> salesRollup.onOrderStatusChanged(completed(1L))));
+        when(orderArchiveRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenReturn(Stream.empty());
+
+        salesRollup.initialize();
+
+        assertThat(dailyRevenue()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("초기화 스캔 중 완료되어 스캔에 빠진 주문은 초기화가 끝난 뒤 반영한다.")
+    void initialize_EventDuringScanForMissedOrder_AppliesAfterScan() {
+        when(orderRepository.findRowsByIdIn(Set.of(2L))).thenReturn(List.of(row(2L, 1, 3000)));
+        when(orderRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenAnswer(invocation ->
+                Stream.of(row(1L, 2, 1000)).peek(row -> salesRollup.onOrderStatusChanged(completed(2L))));
+        when(orderArchiveRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenReturn(Stream.empty());
+
+        salesRollup.initialize();
+
+        assertThat(dailyRevenue()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("초기화 후에는 완료 이벤트를 바로 반영하고 다른 상태 변경은 무시한다.")
+    void onOrderStatusChanged_AfterInitialize_RecordsOnlyCompleted() {
+        when(orderRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenReturn(Stream.empty());
+        when(orderArchiveRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenReturn(Stream.empty());
+        when(orderRepository.findRowsById(3L)).thenReturn(List.of(row(3L, 3, 500)));
+        salesRollup.initialize();
+
+        salesRollup.onOrderStatusChanged(completed(3L));
+        salesRollup.onOrderStatusChanged(OrderStatusChangedEvent.changed(4L, OrderStatus.PENDING, OrderStatus.CANCELLED));
+
+        assertThat(dailyRevenue()).isEqualTo(1500);
+        verify(orderRepository, never()).findRowsById(4L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 주문은 완료된 경우에만 더하고, 같은 주문의 메시지가 여러 번 와도 한 번만 더한다.")
+    void refresh_CompletedOnAnotherNode_CountsOnce() {
+        when(orderRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenReturn(Stream.empty());
+        when(orderArchiveRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenReturn(Stream.empty());
+        salesRollup.initialize();
+
+        OrderRow preparing = new OrderRow(5L, "홍길동", OrderStatus.PREPARING, 4000, ORDERED_AT,
+                10L, "아메리카노", 4000, 1);
+        when(orderRepository.findRowsById(5L)).thenReturn(List.of(preparing));
+        salesRollup.refresh(5L);
+        assertThat(dailyRevenue()).isZero();
+
+        // 조리 시작 메시지가 완료 뒤에 늦게 와도 완료 메시지와 합쳐 한 번만 더한다.
+        when(orderRepository.findRowsById(5L)).thenReturn(List.of(row(5L, 1, 4000)));
+        salesRollup.refresh(5L);
+        salesRollup.refresh(5L);
+        salesRollup.onOrderStatusChanged(completed(5L));
+
+        assertThat(dailyRevenue()).isEqualTo(4000);
+    }
+
+    @Test
+    @DisplayName("일괄 완료는 완료된 주문만 한 번에 읽어 더한다.")
+    void onOrderStatusesChanged_ReadsCompletedOrdersOnce() {
+        when(orderRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenReturn(Stream.empty());
+        when(orderArchiveRepository.streamRowsByStatus(OrderStatus.COMPLETED)).thenReturn(Stream.empty());
+        salesRollup.initialize();
+        when(orderRepository.findRowsByIdIn(List.of(6L, 7L))).thenReturn(List.of(
+                row(6L, 1, 1000), row(6L, 2, 500), row(7L, 1, 3000)));
+
+        salesRollup.onOrderStatusesChanged(new OrderStatusesChangedEvent(List.of(
+                completed(6L),
+                completed(7L),
+                OrderStatusChangedEvent.changed(8L, OrderStatus.PENDING, OrderStatus.CANCELLED))));
+
+        assertThat(dailyRevenue()).isEqualTo(5000);
+        verify(orderRepository, times(1)).findRowsByIdIn(anyCollection());
+        verify(orderRepository, never()).findRowsById(anyLong());
+    }
+
+    private long dailyRevenue() {
+        List<SalesBucketResponse> buckets = salesRollup.dailyRevenue(DAY, DAY);
+        return buckets.get(0).getRevenue();
+    }
+
+    private static OrderStatusChangedEvent completed(long orderId) {
+        return OrderStatusChangedEvent.changed(orderId, OrderStatus.PREPARING, OrderStatus.COMPLETED);
+    }
+
+    private static OrderRow row(long orderId, int quantity, int price) {
+        return new OrderRow(orderId, "홍길동", OrderStatus.COMPLETED, quantity * price, ORDERED_AT,
+                10L, "아메리카노", price, quantity);
+    }
+}
@@ -0,0 +1,213 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.repository.MenuRepository;
+import com.codeit.cafe.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+/**
+ * menus.stock 은 메모리 맵으로 흉내 내고, 두 엔진을 띄워 노드 두 개를 확인한다.
+ */
+@DisplayName("StockReservationEngine 테스트")
+class StockReservationEngineTest {
+
+    private static final int LEASE_SIZE = 20;
+
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Map<Long, AtomicInteger> dbStock = new ConcurrentHashMap<>();
+    private final List<StockReservationEngine> engines = new ArrayList<>();
+    private StockReservationEngine engine;
+    private Menu cake;
+    private Menu cookie;
+    private Menu americano;
+
+    @BeforeEach
+    void setUp() {
+        cake = menu(1L, "시즌 케이크", 100);
+        cookie = menu(2L, "쿠키", 1);
+        americano = menu(3L, "아메리카노", null);
+        dbStock.put(1L, new AtomicInteger(100));
+        dbStock.put(2L, new AtomicInteger(1));
+
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(menuRepository.takeStock(anyLong(), anyInt())).thenAnswer(invocation -> {
+            AtomicInteger stock = dbStock.get(invocation.<Long>getArgument(0));
+            int quantity = invocation.getArgument(1);
+            int current;
+            do {
+                current = stock.get();
+                if (current < quantity) {
+                    return 0;
+                }
+            } while (!stock.compareAndSet(current, current - quantity));
+            return 1;
+        });
+        when(menuRepository.returnStock(anyLong(), anyInt())).thenAnswer(invocation -> {
+            dbStock.get(invocation.<Long>getArgument(0)).addAndGet(invocation.<Integer>getArgument(1));
+            return 1;
+        });
+        when(menuRepository.findByStockIsNotNull()).thenAnswer(invocation -> dbStock.entrySet().stream()
+                .map(entry -> menu(entry.getKey(), "메뉴" + entry.getKey(), entry.getValue().get()))
+                .toList());
+        when(menuRepository.findById(anyLong())).thenAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            AtomicInteger stock = dbStock.get(id);
+            return Optional.of(menu(id, "메뉴" + id, stock == null ? null : stock.get()));
+        });
+
+        engine = startEngine();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (StockReservationEngine started : engines) {
+            started.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("한 메뉴에 동시에 주문이 몰려도 재고보다 많이 예약되지 않는다.")
+    void reserve_UnderContention_NeverOversells() throws Exception {
+        assertThat(reserveConcurrently(List.of(engine), 16, 50)).isEqualTo(100);
+        assertThat(dbStock.get(1L)).hasValue(0);
+        assertThat(engine.getRemaining(cake)).isZero();
+        assertThat(engine.isAvailable(cake)).isFalse();
+    }
+
+    @Test
+    @DisplayName("두 노드가 같은 재고에서 동시에 팔아도 합쳐서 재고보다 많이 예약되지 않는다.")
+    void reserve_OnTwoNodes_NeverOversells() throws Exception {
+        StockReservationEngine other = startEngine();
+
+        assertThat(reserveConcurrently(List.of(engine, other), 8, 50)).isEqualTo(100);
+        assertThat(dbStock.get(1L)).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("가져온 재고가 남아 있는 동안에는 DB를 건드리지 않는다.")
+    void reserve_WithinLease_DoesNotTouchDatabase() {
+        engine.reserve(Map.of(cake, 1));
+        for (int i = 0; i < LEASE_SIZE - 1; i++) {
+            engine.reserve(Map.of(cake, 1));
+        }
+
+        verify(menuRepository, times(1)).takeStock(1L, LEASE_SIZE);
+        assertThat(dbStock.get(1L)).hasValue(100 - LEASE_SIZE);
+        assertThat(engine.getRemaining(cake)).isEqualTo(100 - LEASE_SIZE);
+    }
+
+    @Test
+    @DisplayName("하나라도 재고가 부족하면 주문 전체의 예약을 되돌린다.")
+    void reserve_WhenOneItemSoldOut_ReservesNothing() {
+        assertThatThrownBy(() -> engine.reserve(Map.of(cake, 3, cookie, 2, americano, 10)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("쿠키");
+
+        assertThat(engine.getRemaining(cake)).isEqualTo(100);
+        assertThat(engine.getRemaining(cookie)).isEqualTo(1);
+        assertThat(engine.getRemaining(americano)).isNull();
+        verify(menuRepository, never()).takeStock(eq(3L), anyInt());
+    }
+
+    @Test
+    @DisplayName("예약을 취소하면 이 노드의 재고로 돌아오고 다시 판매 가능해진다.")
+    void release_RestoresStock() {
+        engine.reserve(Map.of(cookie, 1));
+        assertThat(engine.isAvailable(cookie)).isFalse();
+
+        engine.release(Map.of(2L, 1, 3L, 2));
+
+        assertThat(engine.getRemaining(cookie)).isEqualTo(1);
+        assertThat(engine.isAvailable(cookie)).isTrue();
+        assertThat(engine.getRemaining(americano)).isNull();
+    }
+
+    @Test
+    @DisplayName("관리자가 재고를 바꾸면 가져온 재고를 버리고 새 값을 따른다.")
+    void resetCounter_DropsLeaseAndReadsNewStock() {
+        engine.reserve(Map.of(cake, 3));
+        dbStock.get(1L).set(50);
+
+        engine.resetCounter(1L);
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(engine.getRemaining(cake)).isEqualTo(50));
+        dbStock.remove(2L);
+        engine.resetCounter(2L);
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(engine.getRemaining(menu(2L, "쿠키", null))).isNull());
+    }
+
+    @Test
+    @DisplayName("종료하면 쓰지 않은 재고를 menus.stock 에 돌려준다.")
+    void shutdown_ReturnsUnusedLease() throws InterruptedException {
+        engine.reserve(Map.of(cake, 5));
+        assertThat(dbStock.get(1L)).hasValue(100 - LEASE_SIZE);
+
+        engine.shutdown();
+
+        assertThat(dbStock.get(1L)).hasValue(95);
+    }
+
+    private int reserveConcurrently(List<StockReservationEngine> nodes, int threadsPerNode, int attemptsPerThread)
+            throws InterruptedException {
+        AtomicInteger reserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadsPerNode * nodes.size());
+        for (StockReservationEngine node : nodes) {
+            for (int i = 0; i < threadsPerNode; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < attemptsPerThread; j++) {
+                        try {
+                            node.reserve(Map.of(cake, 1));
+                            reserved.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            // 매진
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        return reserved.get();
+    }
+
+    private StockReservationEngine startEngine() {
+        StockReservationEngine started = new StockReservationEngine(menuRepository, mock(OrderRepository.class),
+                transactionManager, LEASE_SIZE, 2000);
+        started.initialize();
+        engines.add(started);
+        return started;
+    }
+
+    private static Menu menu(long id, String name, Integer stock) {
+        Menu menu = Menu.builder().name(name).price(5000).available(true).stock(stock).build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        return menu;
+    }
+}
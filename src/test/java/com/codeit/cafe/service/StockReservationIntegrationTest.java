@@ -0,0 +1,136 @@
+package com.codeit.cafe.service;
+
+import com.codeit.cafe.domain.Menu;
+import com.codeit.cafe.domain.OrderStatus;
+import com.codeit.cafe.dto.OrderCreateRequest;
+import com.codeit.cafe.dto.OrderCreateResult;
+import com.codeit.cafe.dto.OrderItemRequest;
+import com.codeit.cafe.dto.OrderResponse;
+import com.codeit.cafe.repository.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@DisplayName("재고 예약 반환 통합 테스트")
+class StockReservationIntegrationTest {
+
+    private static final int STOCK = 10;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private MenuService menuService;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private StockReservationEngine stockReservationEngine;
+
+    private Menu cake;
+
+    @BeforeEach
+    void setUp() {
+        cake = menuRepository.save(Menu.builder()
+                .name("시즌 케이크")
+                .price(6000)
+                .available(true)
+                .stock(STOCK)
+                .build());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 주문(멱등 키 중복)의 재고 예약은 되돌린다.")
+    void saveOrder_SaveFails_ReleasesStock() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        OrderResponse first = orderService.saveOrder(request(idempotencyKey, 1));
+
+        OrderResponse duplicate = orderService.saveOrder(request(idempotencyKey, 1));
+
+        assertThat(duplicate.getId()).isEqualTo(first.getId());
+        assertThat(stockReservationEngine.getRemaining(cake)).isEqualTo(STOCK - 1);
+    }
+
+    @Test
+    @DisplayName("일괄 생성 트랜잭션이 롤백되면 커밋 이후 단계에서 예약을 모두 되돌린다.")
+    void createOrders_Rollback_ReleasesStockAfterCompletion() {
+        // 컬럼 길이(64)를 넘는 멱등 키는 insert 시 실패해서 전체가 롤백된다. (서비스는 요청 검증을 다시 하지 않는다)
+        assertThatThrownBy(() -> orderService.createOrders(List.of(
+                request(UUID.randomUUID().toString(), 2),
+                request("k".repeat(65), 3))))
+                .isInstanceOf(DataAccessException.class);
+
+        assertThat(stockReservationEngine.getRemaining(cake)).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("이미 쓰인 멱등 키로 일괄 생성을 다시 요청하면 기존 주문을 돌려주고 재고를 다시 예약하지 않는다.")
+    void createOrders_RetriedWithUsedKeys_ReturnsExistingOrders() {
+        String firstKey = UUID.randomUUID().toString();
+        String secondKey = UUID.randomUUID().toString();
+        List<OrderCreateResult> created = orderService.createOrders(List.of(
+                request(firstKey, 2),
+                request(secondKey, 1),
+                request(secondKey, 1)));
+        assertThat(created).allMatch(OrderCreateResult::isSuccess);
+        assertThat(created.get(2).getOrder().getId()).isEqualTo(created.get(1).getOrder().getId());
+        assertThat(stockReservationEngine.getRemaining(cake)).isEqualTo(STOCK - 3);
+
+        List<OrderCreateResult> retried = orderService.createOrders(List.of(
+                request(firstKey, 2),
+                request(secondKey, 1),
+                request(null, 1)));
+
+        assertThat(retried).allMatch(OrderCreateResult::isSuccess);
+        assertThat(retried.get(0).getOrder().getId()).isEqualTo(created.get(0).getOrder().getId());
+        assertThat(retried.get(1).getOrder().getId()).isEqualTo(created.get(1).getOrder().getId());
+        assertThat(stockReservationEngine.getRemaining(cake)).isEqualTo(STOCK - 4);
+    }
+
+    @Test
+    @DisplayName("주문이 취소되면 예약한 재고를 돌려준다.")
+    void updateOrderStatus_Cancelled_ReleasesStock() {
+        OrderResponse order = orderService.createOrder(request(null, 4));
+        assertThat(stockReservationEngine.getRemaining(cake)).isEqualTo(STOCK - 4);
+
+        orderService.updateOrderStatus(order.getId(), OrderStatus.CANCELLED);
+
+        assertThat(stockReservationEngine.getRemaining(cake)).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("가격이 바뀌어도 예약된 재고는 그대로이고, 재고를 바꿀 때만 새 값으로 교체된다.")
+    void menuChanges_OnlyStockChangeResetsCounter() {
+        orderService.createOrder(request(null, 3));
+
+        menuService.updatePrice(cake.getId(), 6500);
+        menuService.updateAvailability(cake.getId(), true);
+        assertThat(stockReservationEngine.getRemaining(cake)).isEqualTo(STOCK - 3);
+
+        // 새 값이 전체 남은 재고이며, 이 노드가 가져간 재고는 버리고 DB에서 다시 읽는다.
+        menuService.updateStock(cake.getId(), 50);
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(stockReservationEngine.getRemaining(cake)).isEqualTo(50));
+    }
+
+    private OrderCreateRequest request(String idempotencyKey, int quantity) {
+        return OrderCreateRequest.builder()
+                .customerName("재고 테스트")
+                .idempotencyKey(idempotencyKey)
+                .orderItems(List.of(OrderItemRequest.builder().menuId(cake.getId()).quantity(quantity).build()))
+                .build();
+    }
+}
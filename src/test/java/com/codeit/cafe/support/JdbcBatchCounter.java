@@ -0,0 +1,94 @@
+package com.codeit.cafe.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JDBC 배치 실행을 세는 DataSource 래퍼 (테스트 전용)
+ * Hibernate 설정값이 아니라 드라이버에 실제로 넘어간 호출(addBatch / executeBatch / 단건 executeUpdate)을 센다.
+ */
+public final class JdbcBatchCounter {
+
+    private static final AtomicInteger ADD_BATCH_COUNT = new AtomicInteger();
+    private static final AtomicInteger EXECUTE_BATCH_COUNT = new AtomicInteger();
+    private static final AtomicInteger SINGLE_INSERT_COUNT = new AtomicInteger();
+
+    private JdbcBatchCounter() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result, args) ->
+                result instanceof Connection connection && method.getName().equals("getConnection")
+                        ? wrap(connection)
+                        : result);
+    }
+
+    public static void reset() {
+        ADD_BATCH_COUNT.set(0);
+        EXECUTE_BATCH_COUNT.set(0);
+        SINGLE_INSERT_COUNT.set(0);
+    }
+
+    public static int addBatchCount() {
+        return ADD_BATCH_COUNT.get();
+    }
+
+    public static int executeBatchCount() {
+        return EXECUTE_BATCH_COUNT.get();
+    }
+
+    public static int singleInsertCount() {
+        return SINGLE_INSERT_COUNT.get();
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (method, result, args) ->
+                result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                        ? wrap(statement, (String) args[0])
+                        : result);
+    }
+
+    private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+        boolean insert = sql.toLowerCase(Locale.ROOT).contains("insert into");
+        return proxy(PreparedStatement.class, statement, (method, result, args) -> {
+            switch (method.getName()) {
+                case "addBatch" -> ADD_BATCH_COUNT.incrementAndGet();
+                case "executeBatch" -> EXECUTE_BATCH_COUNT.incrementAndGet();
+                case "executeUpdate", "executeLargeUpdate", "execute" -> {
+                    if (insert && (args == null || args.length == 0)) {
+                        SINGLE_INSERT_COUNT.incrementAndGet();
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return handler.handle(method, result, args);
+        };
+        return type.cast(Proxy.newProxyInstance(JdbcBatchCounter.class.getClassLoader(),
+                new Class<?>[]{type}, invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object result, Object[] args);
+    }
+}
@@ -0,0 +1,49 @@
+package com.codeit.cafe.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행된 SQL 문을 세는 StatementInspector (테스트 전용)
+ * hibernate.session_factory.statement_inspector 속성으로 등록해서 사용한다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicInteger SELECT_COUNT = new AtomicInteger();
+    private static final AtomicInteger TOTAL_COUNT = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        TOTAL_COUNT.incrementAndGet();
+        if (isSelect(sql)) {
+            SELECT_COUNT.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        SELECT_COUNT.set(0);
+        TOTAL_COUNT.set(0);
+    }
+
+    public static int selectCount() {
+        return SELECT_COUNT.get();
+    }
+
+    public static int totalCount() {
+        return TOTAL_COUNT.get();
+    }
+
+    private static boolean isSelect(String sql) {
+        String statement = sql.trim();
+        // use_sql_comments 설정 시 앞에 붙는 주석 제거
+        while (statement.startsWith("/*") && statement.contains("*/")) {
+            statement = statement.substring(statement.indexOf("*/") + 2).trim();
+        }
+        String lowerCase = statement.toLowerCase(Locale.ROOT);
+        // 시퀀스 채번은 테이블 조회가 아니므로 제외
+        return lowerCase.startsWith("select") && !lowerCase.contains("next value for");
+    }
+}